@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Compares the platform-thread Tomcat pool with virtual threads at high concurrency.
+# Usage: scripts/load-test.sh [concurrency] [duration]
+# Needs JDK 21 and hey (https://github.com/rakyll/hey). Build first with: mvn -Pjava21 package -DskipTests
+# Pinned virtual threads are reported by -Djdk.tracePinnedThreads=short and counted from the application log.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+CONCURRENCY=${1:-1000}
+DURATION=${2:-30s}
+PORT=${PORT:-18082}
+JAR=$(ls target/*-SNAPSHOT.jar | head -n 1)
+BASE_URL="http://localhost:$PORT/api"
+
+run() {
+    local mode=$1 virtual=$2
+    local log="target/load-test-$mode.log"
+
+    java -Djdk.tracePinnedThreads=short -jar "$JAR" --server.port="$PORT" \
+        --threads.virtual.enabled="$virtual" \
+        --spring.datasource.url=jdbc:h2:mem:load \
+        --spring.datasource.driver-class-name=org.h2.Driver \
+        --spring.datasource.username=sa \
+        --spring.jpa.database=H2 \
+        --spring.jpa.show-sql=false \
+        > "$log" 2>&1 &
+    local pid=$!
+
+    until curl -s -o /dev/null "$BASE_URL/auth/login/username"; do sleep 0.2; done
+    until grep -q "Role with name USER was created" "$log"; do sleep 0.2; done
+
+    local user_id
+    user_id=$(curl -sf -X POST "$BASE_URL/auth/register" -H 'Content-Type: application/json' \
+        -d '{"username":"load","first_name":"Load","last_name":"Test","email":"load@mail.co","password":"1111"}' \
+        | sed -E 's/.*"id":([0-9]+).*/\1/')
+    local token
+    token=$(curl -sf -X POST "$BASE_URL/auth/login/username" -H 'Content-Type: application/json' \
+        -d '{"username":"load","password":"1111"}')
+
+    echo "=== $mode threads, concurrency $CONCURRENCY, $DURATION ==="
+    hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer $token" "$BASE_URL/users/$user_id/posts" \
+        | grep -E "Requests/sec|Average|Slowest|50%|95%|99%|\[[0-9]+\]"
+    echo "pinned virtual threads: $(grep -c "<== monitors" "$log" || true)"
+
+    kill "$pid"
+    wait "$pid" || true
+}
+
+run platform false
+run virtual true
@@ -0,0 +1,66 @@
+#!/usr/bin/env bash
+# Smoke test for the native image against in-memory H2 and a local MinIO, reports startup time and RSS.
+# Usage: scripts/native-smoke-test.sh
+# Build first with: mvn -Pnative native:compile -DskipTests
+# MINIO_ENDPOINT/MINIO_ACCESS_KEY/MINIO_SECRET_KEY point to an existing object store, otherwise a
+# throwaway MinIO container is started. APP_CMD overrides the binary (e.g. to compare with the JVM build).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT=${PORT:-18081}
+APP_CMD=${APP_CMD:-target/social-media}
+BASE_URL="http://localhost:$PORT/api"
+LOG=target/native-smoke-test.log
+
+if [[ -z "${MINIO_ENDPOINT:-}" ]]; then
+    container=$(docker run -d --rm -p 19000:9000 minio/minio server /data)
+    export MINIO_ENDPOINT=http://localhost:19000 MINIO_ACCESS_KEY=minioadmin MINIO_SECRET_KEY=minioadmin
+    until curl -s -o /dev/null "$MINIO_ENDPOINT/minio/health/live"; do sleep 0.2; done
+fi
+
+start=$(date +%s%N)
+$APP_CMD --server.port="$PORT" \
+    --spring.datasource.url=jdbc:h2:mem:smoke \
+    --spring.datasource.driver-class-name=org.h2.Driver \
+    --spring.datasource.username=sa \
+    --spring.jpa.database=H2 \
+    --spring.jpa.show-sql=false \
+    > "$LOG" 2>&1 &
+pid=$!
+trap 'kill "$pid" 2> /dev/null || true; [[ -n "${container:-}" ]] && docker stop "$container" > /dev/null' EXIT
+
+until curl -s -o /dev/null "$BASE_URL/auth/login/username"; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+        echo "Application exited, see $LOG" >&2
+        exit 1
+    fi
+    sleep 0.01
+done
+startup=$(( ($(date +%s%N) - start) / 1000000 ))
+
+fail() {
+    echo "FAILED: $1" >&2
+    exit 1
+}
+
+user_id=$(curl -sf -X POST "$BASE_URL/auth/register" -H 'Content-Type: application/json' \
+    -d '{"username":"smoke","first_name":"Smoke","last_name":"Test","email":"smoke@mail.co","password":"1111"}' \
+    | sed -E 's/.*"id":([0-9]+).*/\1/') || fail "register"
+
+token=$(curl -sf -X POST "$BASE_URL/auth/login/username" -H 'Content-Type: application/json' \
+    -d '{"username":"smoke","password":"1111"}') || fail "login (JJWT)"
+
+post_id=$(curl -sf -X POST "$BASE_URL/users/$user_id/posts" -H 'Content-Type: application/json' \
+    -H "Authorization: Bearer $token" \
+    -d '{"description":"smoke","photos":["photos/girl.webp"]}' \
+    | sed -E 's/.*"id":([0-9]+).*/\1/') || fail "create post (Hibernate, MinIO upload)"
+
+curl -sf -o /dev/null "$BASE_URL/users/$user_id/posts/$post_id" -H "Authorization: Bearer $token" \
+    || fail "read post (MapStruct)"
+
+rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+
+echo "startup (time to first response): $startup ms"
+echo "RSS after smoke requests: $((rss / 1024)) MB"
+echo "OK"
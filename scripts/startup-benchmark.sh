@@ -0,0 +1,43 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request of the application.
+# Usage: scripts/startup-benchmark.sh [runs]
+# Build first with: mvn -Pfast-startup package -DskipTests
+# Set CDS=false to compare against a run without the AppCDS archive.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+JAR=$(ls target/*-SNAPSHOT.jar | grep -v -- '-exec.jar' | head -n 1)
+JAVA_OPTS=(-Dspring.aot.enabled=true -Dspring.profiles.active=fast)
+if [[ "${CDS:-true}" == "true" && -f target/app.jsa ]]; then
+    JAVA_OPTS+=(-XX:SharedArchiveFile=target/app.jsa)
+fi
+APP_ARGS=(--server.port="$PORT"
+    --spring.datasource.url=jdbc:h2:mem:benchmark
+    --spring.datasource.driver-class-name=org.h2.Driver
+    --spring.datasource.username=sa
+    --spring.jpa.database=H2)
+
+total=0
+for run in $(seq 1 "$RUNS"); do
+    start=$(date +%s%N)
+    java "${JAVA_OPTS[@]}" -cp "$JAR:target/lib/*" com.social.media.SocialMediaApplication "${APP_ARGS[@]}" \
+        > "target/startup-benchmark-$run.log" 2>&1 &
+    pid=$!
+    until curl -s -o /dev/null "http://localhost:$PORT/api/auth/login"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application exited, see target/startup-benchmark-$run.log" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+    kill "$pid"
+    wait "$pid" || true
+    echo "run $run: first response after $elapsed ms"
+    total=$((total + elapsed))
+done
+
+echo "average time-to-first-request: $((total / RUNS)) ms"
@@ -0,0 +1,79 @@
+package com.social.media.benchmark;
+
+import com.social.media.exception.LikeAlreadyExistException;
+import com.social.media.exception.NotFoundException;
+import jakarta.persistence.EntityNotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cost of an expected "not found" outcome raised {@code depth} frames below the handler, like a service call under
+ * the filter chain, the MVC dispatch and the authorization proxies. Compares the exception with a stack trace
+ * the services used to throw, the stackless domain exceptions and an {@link Optional} result.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args=ExceptionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExceptionBenchmark {
+    @Param({"20", "100"})
+    private int depth;
+
+    private long id;
+
+    @Benchmark
+    public void entityNotFoundException(Blackhole blackhole) {
+        try {
+            blackhole.consume(throwAt(depth, () -> new EntityNotFoundException("User with id " + id + " not found!")));
+        } catch (EntityNotFoundException exception) {
+            blackhole.consume(exception.getMessage());
+        }
+    }
+
+    @Benchmark
+    public void notFoundException(Blackhole blackhole) {
+        try {
+            blackhole.consume(throwAt(depth, () -> new NotFoundException("User with id " + id + " not found!")));
+        } catch (EntityNotFoundException exception) {
+            blackhole.consume(exception.getMessage());
+        }
+    }
+
+    @Benchmark
+    public void domainException(Blackhole blackhole) {
+        try {
+            blackhole.consume(throwAt(depth, () -> new LikeAlreadyExistException("Like already exist, so you can not set it twice!")));
+        } catch (LikeAlreadyExistException exception) {
+            blackhole.consume(exception.getMessage());
+        }
+    }
+
+    @Benchmark
+    public void optionalResult(Blackhole blackhole) {
+        blackhole.consume(findAt(depth).isPresent());
+    }
+
+    private Object throwAt(int frames, Supplier<RuntimeException> exception) {
+        if (frames == 0) {
+            id++;
+            throw exception.get();
+        }
+        return throwAt(frames - 1, exception);
+    }
+
+    private Optional<Object> findAt(int frames) {
+        if (frames == 0) {
+            id++;
+            return Optional.empty();
+        }
+        return findAt(frames - 1);
+    }
+}
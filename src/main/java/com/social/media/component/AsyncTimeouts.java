@@ -0,0 +1,50 @@
+package com.social.media.component;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Timeouts of the long downloads written by a {@code StreamingResponseBody}, set on their own request only, every
+ * other async request keeps the default timeout.
+ */
+@Component
+public class AsyncTimeouts {
+    private final Duration userStream;
+    private final Duration export;
+
+    public AsyncTimeouts(@Value("${users.stream.timeout:10m}") Duration userStream,
+                         @Value("${export.timeout:30m}") Duration export) {
+        this.userStream = userStream;
+        this.export = export;
+    }
+
+    public void applyUserStream(NativeWebRequest request) {
+        apply(request, userStream);
+    }
+
+    public void applyExport(NativeWebRequest request) {
+        apply(request, export);
+    }
+
+    /**
+     * The timeout is set right before the async processing the handler returned starts, the async request only
+     * exists from then on.
+     */
+    private static void apply(NativeWebRequest request, Duration timeout) {
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(AsyncTimeouts.class, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest asyncRequest, Callable<T> task) {
+                if (asyncRequest instanceof AsyncWebRequest asyncWebRequest) {
+                    asyncWebRequest.setTimeout(timeout.toMillis());
+                }
+            }
+        });
+    }
+}
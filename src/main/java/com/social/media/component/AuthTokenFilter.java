@@ -1,5 +1,6 @@
 package com.social.media.component;
 
+import com.social.media.model.entity.User;
 import com.social.media.service.UserService;
 import com.social.media.util.JwtUtils;
 import jakarta.servlet.FilterChain;
@@ -11,6 +12,8 @@ import org.jetbrains.annotations.NotNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -22,6 +25,8 @@ import java.util.Objects;
 public class AuthTokenFilter extends OncePerRequestFilter {
     private final JwtUtils jwtUtils;
     private final UserService userService;
+    private final TokenRevocationList revocationList;
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
 
     private static final String HEADER_PREFIX = "Bearer ";
 
@@ -30,9 +35,11 @@ public class AuthTokenFilter extends OncePerRequestFilter {
                                  @NotNull FilterChain filterChain) throws ServletException, IOException {
         if (hasAuthorizationBearer(request)) {
             String token = getAccessToken(request);
-            if (jwtUtils.isJwtTokenValid(token)) {
-                setAuthContext(token, request);
-            }
+            // the token can be revoked or outlive its user, then the request stays anonymous
+            jwtUtils.parseAccessToken(token)
+                    .filter(claims -> !revocationList.isRevoked(claims.getId()))
+                    .flatMap(claims -> userService.findByUsernameOrEmail(claims.getSubject()))
+                    .ifPresent(user -> setAuthContext(user, request, response));
         }
         filterChain.doFilter(request, response);
     }
@@ -46,18 +53,17 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         return request.getHeader("Authorization").substring(HEADER_PREFIX.length());
     }
 
-    private void setAuthContext(String token, HttpServletRequest request) {
+    /**
+     * The context is also saved as a request attribute. The async dispatch that completes a streamed response skips
+     * this filter and loads the context from there, so it passes the same authorization rules as the request.
+     */
+    private void setAuthContext(User user, HttpServletRequest request, HttpServletResponse response) {
         UsernamePasswordAuthenticationToken authenticationToken =
-                getUsernamePasswordAuthenticationToken(token);
+                new UsernamePasswordAuthenticationToken(user.getUsername(), null, user.getAuthorities());
 
         authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-    }
-
-    private UsernamePasswordAuthenticationToken getUsernamePasswordAuthenticationToken(String token) {
-       var userDetails = userService.getUserByUsernameOrEmail(jwtUtils.getSubject(token));
-
-        return new UsernamePasswordAuthenticationToken(userDetails.getUsername(),
-                null, userDetails.getAuthorities());
+        var context = SecurityContextHolder.getContext();
+        context.setAuthentication(authenticationToken);
+        securityContextRepository.saveContext(context, request, response);
     }
 }
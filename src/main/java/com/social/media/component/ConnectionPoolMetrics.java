@@ -0,0 +1,52 @@
+package com.social.media.component;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Pool saturation on top of the Hikari meters Spring Boot already binds ({@code hikaricp.connections.acquire},
+ * {@code .pending}, {@code .timeout}, ...): the share of the pool that is in use, 1.0 means every further request waits.
+ */
+@Component
+public class ConnectionPoolMetrics implements MeterBinder {
+    private final DataSource dataSource;
+
+    public ConnectionPoolMetrics(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        var hikari = unwrap();
+        if (hikari == null) {
+            return;
+        }
+
+        Gauge.builder("hikaricp.connections.saturation", hikari, ConnectionPoolMetrics::saturation)
+                .description("Active connections divided by the maximum pool size")
+                .tag("pool", hikari.getPoolName())
+                .register(registry);
+    }
+
+    private HikariDataSource unwrap() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException exception) {
+            return null;
+        }
+    }
+
+    private static double saturation(HikariDataSource hikari) {
+        var pool = hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            return 0;
+        }
+        return (double) pool.getActiveConnections() / hikari.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,38 @@
+package com.social.media.component;
+
+import com.social.media.repository.RoleRepository;
+import com.social.media.service.RoleService;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Registration depends on the 'USER' role, so the default roles are created on every start, before any seeding
+ * and independently of the active profiles.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DefaultRolesInitializer implements ApplicationRunner {
+    private static final List<String> DEFAULT_ROLES = List.of("ADMIN", "USER");
+
+    private final RoleService roleService;
+    private final RoleRepository roleRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (String name : DEFAULT_ROLES) {
+            if (roleRepository.findByName(name).isEmpty()) {
+                roleService.create(name);
+                log.info("Role with name {} was created!", name);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.social.media.component;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class FirstRequestTimer extends OncePerRequestFilter {
+    private final AtomicBoolean served = new AtomicBoolean();
+
+    @Override
+    protected void doFilterInternal(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response,
+                                    @NotNull FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!served.get() && served.compareAndSet(false, true)) {
+                long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+                log.info("Time to first request: {} ms after JVM start ({} {})",
+                        System.currentTimeMillis() - jvmStart, request.getMethod(), request.getRequestURI());
+            }
+        }
+    }
+}
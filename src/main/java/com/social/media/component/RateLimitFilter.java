@@ -0,0 +1,146 @@
+package com.social.media.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.social.media.config.RateLimitProperties;
+import com.social.media.config.RateLimitProperties.Key;
+import com.social.media.config.RateLimitProperties.Policy;
+import com.social.media.util.JwtUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Token bucket rate limiting in front of the authentication, so floods are rejected before any token or password
+ * check. Requests over their policy get 429 with {@code Retry-After} and are counted as {@code rate.limit.throttled}.
+ * Idle buckets expire once they would have refilled completely, and at most {@code rate-limit.max-keys} are kept.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final boolean enabled;
+    private final List<Rule> rules;
+    private final Cache<String, TokenBucket> buckets;
+    private final JwtUtils jwtUtils;
+
+    public RateLimitFilter(RateLimitProperties properties, JwtUtils jwtUtils, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.jwtUtils = jwtUtils;
+        this.rules = properties.policies()
+                .entrySet()
+                .stream()
+                .map(entry -> new Rule(entry.getKey(), entry.getValue(), meterRegistry))
+                .sorted(Comparator.comparing(rule -> rule.pattern, PathPattern.SPECIFICITY_COMPARATOR))
+                .toList();
+
+        var longestPeriod = rules.stream()
+                .map(rule -> rule.policy.period())
+                .max(Duration::compareTo)
+                .orElse(Duration.ofMinutes(1));
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxKeys())
+                .expireAfterAccess(longestPeriod)
+                .build();
+
+        Gauge.builder("rate.limit.keys", buckets, Cache::estimatedSize)
+                .description("Rate limit buckets currently kept")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NotNull HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response,
+                                    @NotNull FilterChain filterChain) throws ServletException, IOException {
+        var rule = findRule(request);
+        if (rule != null) {
+            long now = System.nanoTime();
+            long waitNanos = buckets.get(rule.name + ':' + resolveKey(rule.policy.key(), request),
+                            key -> new TokenBucket(rule.policy.capacity(), rule.policy.period(), now))
+                    .tryConsume(now);
+
+            if (waitNanos > 0) {
+                rule.throttled.increment();
+                long retryAfterSeconds = TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1);
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+                response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many requests, please try again later!");
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Rule findRule(HttpServletRequest request) {
+        var path = PathContainer.parsePath(request.getRequestURI());
+        for (var rule : rules) {
+            if (rule.matches(request.getMethod(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String resolveKey(Key key, HttpServletRequest request) {
+        if (key == Key.USER) {
+            var header = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (header != null && header.startsWith(BEARER_PREFIX)) {
+                var subject = jwtUtils.findValidSubject(header.substring(BEARER_PREFIX.length()));
+                if (subject.isPresent()) {
+                    return "user:" + subject.get();
+                }
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static class Rule {
+        private final String name;
+        private final Policy policy;
+        private final PathPattern pattern;
+        private final Set<String> methods;
+        private final Counter throttled;
+
+        private Rule(String name, Policy policy, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.policy = policy;
+            this.pattern = PathPatternParser.defaultInstance.parse(policy.path());
+            this.methods = policy.methods()
+                    .stream()
+                    .map(method -> method.trim().toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            this.throttled = Counter.builder("rate.limit.throttled")
+                    .description("Requests rejected with 429 by a rate limit policy")
+                    .tag("policy", name)
+                    .register(meterRegistry);
+        }
+
+        private boolean matches(String method, PathContainer path) {
+            return (methods.isEmpty() || methods.contains(method)) && pattern.matches(path);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.social.media.component;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes one structured event per request to the {@code access} logger: method, path, status, duration, user and client
+ * address as key-value pairs, the trace id comes from the MDC. Only {@code access-log.sample-rate} of the other requests
+ * are logged, server errors and requests slower than {@code access-log.slow-request-ms} always are.
+ * Streamed responses are logged when their async processing completes.
+ */
+@Component
+public class RequestLoggingFilter extends OncePerRequestFilter {
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access");
+
+    private final double sampleRate;
+    private final long slowRequestMs;
+
+    public RequestLoggingFilter(@Value("${access-log.sample-rate:1.0}") double sampleRate,
+                                @Value("${access-log.slow-request-ms:1000}") long slowRequestMs) {
+        this.sampleRate = sampleRate;
+        this.slowRequestMs = slowRequestMs;
+    }
+
+    @Override
+    protected void doFilterInternal(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response,
+                                    @NotNull FilterChain filterChain) throws ServletException, IOException {
+        if (!ACCESS_LOG.isInfoEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            var user = currentUser();
+            if (!failed && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(request, response, start, user, MDC.getCopyOfContextMap()));
+            } else {
+                log(request, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(), start, user);
+            }
+        }
+    }
+
+    boolean isLogged(int status, long durationMs) {
+        return status >= 500 || durationMs >= slowRequestMs || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private void log(HttpServletRequest request, int status, long start, String user) {
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (!isLogged(status, durationMs)) {
+            return;
+        }
+
+        ACCESS_LOG.atInfo()
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("path", request.getRequestURI())
+                .addKeyValue("status", status)
+                .addKeyValue("duration_ms", durationMs)
+                .addKeyValue("user", user)
+                .addKeyValue("client", request.getRemoteAddr())
+                .log("request");
+    }
+
+    private static String currentUser() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private class CompletionListener implements AsyncListener {
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long start;
+        private final String user;
+        private final Map<String, String> context;
+
+        private CompletionListener(HttpServletRequest request, HttpServletResponse response, long start, String user,
+                                   Map<String, String> context) {
+            this.request = request;
+            this.response = response;
+            this.start = start;
+            this.user = user;
+            this.context = context;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            var previous = MDC.getCopyOfContextMap();
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                log(request, response.getStatus(), start, user);
+            } finally {
+                if (previous == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(previous);
+                }
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
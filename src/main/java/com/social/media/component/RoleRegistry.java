@@ -0,0 +1,53 @@
+package com.social.media.component;
+
+import com.social.media.model.entity.Role;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Committed roles held as an immutable snapshot. Lookups only read the current snapshot, a change of the roles
+ * builds a new one and swaps it in as a whole, so readers never see a half-updated catalog and never lock.
+ * Only the id and name of a role are kept, never the entity, so nothing handed out can be changed or lazily loaded
+ * outside of the persistence context it came from.
+ */
+@Component
+public class RoleRegistry {
+    private static final String ADMIN = "ADMIN";
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(Map.of(), Map.of()));
+
+    public Optional<RegisteredRole> findByName(String name) {
+        return Optional.ofNullable(snapshot.get().byName().get(name));
+    }
+
+    public Optional<RegisteredRole> findById(long id) {
+        return Optional.ofNullable(snapshot.get().byId().get(id));
+    }
+
+    public boolean isAdmin(Role role) {
+        var admin = snapshot.get().byName().get(ADMIN);
+        return role != null && admin != null && admin.id() == role.getId();
+    }
+
+    public void replaceAll(Collection<Role> roles) {
+        var registered = roles.stream()
+                .map(role -> new RegisteredRole(role.getId(), role.getName()))
+                .toList();
+        snapshot.set(new Snapshot(
+                registered.stream().collect(Collectors.toUnmodifiableMap(RegisteredRole::name, Function.identity())),
+                registered.stream().collect(Collectors.toUnmodifiableMap(RegisteredRole::id, Function.identity()))
+        ));
+    }
+
+    public record RegisteredRole(long id, String name) {
+    }
+
+    private record Snapshot(Map<String, RegisteredRole> byName, Map<Long, RegisteredRole> byId) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.social.media.component;
+
+import com.social.media.search.SearchIndex;
+import com.social.media.service.SearchService;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills an empty search index (always the case for the in-memory one) from the database in the background,
+ * searches return partial results until it is done.
+ */
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(value = "search.rebuild-on-startup", havingValue = "true", matchIfMissing = true)
+public class SearchIndexInitializer implements ApplicationRunner {
+    private final SearchIndex searchIndex;
+    private final SearchService searchService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (searchIndex.size() == 0) {
+            searchService.rebuildAsync();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.social.media.component;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+public class StartupTimeReporter {
+    @Value("${startup.budget-ms:15000}")
+    private long budgetMs;
+
+    // used by the AppCDS training run of the 'fast-startup' build, which only needs to load the classes of a full boot
+    @Value("${startup.exit-on-ready:false}")
+    private boolean exitOnReady;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        Duration timeTaken = event.getTimeTaken();
+
+        if (timeTaken != null && timeTaken.toMillis() > budgetMs) {
+            log.warn("Startup took {} ms, which is over the budget of {} ms!", timeTaken.toMillis(), budgetMs);
+        } else if (timeTaken != null) {
+            log.info("Startup took {} ms (budget {} ms).", timeTaken.toMillis(), budgetMs);
+        }
+
+        if (exitOnReady) {
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+}
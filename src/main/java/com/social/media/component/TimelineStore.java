@@ -0,0 +1,192 @@
+package com.social.media.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory home timelines: for every user a bounded list of the newest post references (post id, author id, time),
+ * kept in primitive arrays. When a timeline is full the oldest entry is dropped.
+ * A timeline that was never built (e.g. after a restart) is absent, callers materialize it on first read.
+ * At most {@code timeline.max-users} timelines are kept, the least recently used and the ones not read for
+ * {@code timeline.expire-after-access} are dropped and simply materialized again. The arrays of a timeline grow
+ * with its entries, so a user following a few quiet accounts does not cost a full timeline.
+ */
+@Component
+public class TimelineStore {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Cache<Long, Timeline> timelines;
+    private final int capacity;
+
+    public TimelineStore(@Value("${timeline.capacity:800}") int capacity,
+                         @Value("${timeline.max-users:100000}") long maxUsers,
+                         @Value("${timeline.expire-after-access:1h}") Duration expireAfterAccess) {
+        this.capacity = capacity;
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(expireAfterAccess)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean contains(long userId) {
+        return timelines.asMap().containsKey(userId);
+    }
+
+    /**
+     * Adds the entry only to already materialized timelines, the absent ones will read it from the database anyway.
+     */
+    public void push(long userId, Entry entry) {
+        var timeline = timelines.getIfPresent(userId);
+        if (timeline != null) {
+            timeline.add(entry);
+        }
+    }
+
+    public void materialize(long userId, Supplier<List<Entry>> loader) {
+        timelines.get(userId, id -> {
+            var timeline = new Timeline(capacity);
+            loader.get().forEach(timeline::add);
+            return timeline;
+        });
+    }
+
+    /**
+     * @return at most {@code limit} newest entries, newest first
+     */
+    public List<Entry> read(long userId, int limit) {
+        var timeline = timelines.getIfPresent(userId);
+        return timeline == null ? List.of() : timeline.newest(limit);
+    }
+
+    public void removeAuthor(long userId, long authorId) {
+        var timeline = timelines.getIfPresent(userId);
+        if (timeline != null) {
+            timeline.removeAuthor(authorId);
+        }
+    }
+
+    public void evict(long userId) {
+        timelines.invalidate(userId);
+    }
+
+    public void clear() {
+        timelines.invalidateAll();
+    }
+
+    public record Entry(long postId, long authorId, long timestamp) {
+        private boolean isNewerThan(long otherTimestamp, long otherPostId) {
+            return timestamp != otherTimestamp ? timestamp > otherTimestamp : postId > otherPostId;
+        }
+    }
+
+    /**
+     * Entries sorted from oldest to newest, so adding a new post is an append and only back-filled posts need a shift.
+     */
+    private static class Timeline {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+        private long[] postIds;
+        private long[] authorIds;
+        private long[] timestamps;
+        private int size;
+
+        private Timeline(int capacity) {
+            this.capacity = capacity;
+            int initialCapacity = Math.min(capacity, INITIAL_CAPACITY);
+            this.postIds = new long[initialCapacity];
+            this.authorIds = new long[initialCapacity];
+            this.timestamps = new long[initialCapacity];
+        }
+
+        private void add(Entry entry) {
+            lock.lock();
+            try {
+                int position = size;
+                while (position > 0 && !entry.isNewerThan(timestamps[position - 1], postIds[position - 1])) {
+                    if (postIds[position - 1] == entry.postId()) {
+                        return;
+                    }
+                    position--;
+                }
+
+                if (size == capacity) {
+                    if (position == 0) {
+                        return;
+                    }
+                    position--;
+                    shift(1, 0, position);
+                } else {
+                    if (size == postIds.length) {
+                        grow();
+                    }
+                    shift(position, position + 1, size - position);
+                    size++;
+                }
+                postIds[position] = entry.postId();
+                authorIds[position] = entry.authorId();
+                timestamps[position] = entry.timestamp();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private List<Entry> newest(int limit) {
+            lock.lock();
+            try {
+                int count = Math.min(limit, size);
+                var entries = new ArrayList<Entry>(count);
+                for (int i = size - 1; i >= size - count; i--) {
+                    entries.add(new Entry(postIds[i], authorIds[i], timestamps[i]));
+                }
+                return entries;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void removeAuthor(long authorId) {
+            lock.lock();
+            try {
+                int kept = 0;
+                for (int i = 0; i < size; i++) {
+                    if (authorIds[i] != authorId) {
+                        postIds[kept] = postIds[i];
+                        authorIds[kept] = authorIds[i];
+                        timestamps[kept] = timestamps[i];
+                        kept++;
+                    }
+                }
+                size = kept;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void grow() {
+            int newLength = Math.min(capacity, postIds.length * 2);
+            postIds = Arrays.copyOf(postIds, newLength);
+            authorIds = Arrays.copyOf(authorIds, newLength);
+            timestamps = Arrays.copyOf(timestamps, newLength);
+        }
+
+        private void shift(int from, int to, int length) {
+            System.arraycopy(postIds, from, postIds, to, length);
+            System.arraycopy(authorIds, from, authorIds, to, length);
+            System.arraycopy(timestamps, from, timestamps, to, length);
+        }
+    }
+}
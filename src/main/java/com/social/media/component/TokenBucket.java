@@ -0,0 +1,38 @@
+package com.social.media.component;
+
+import java.time.Duration;
+
+/**
+ * Token bucket holding up to {@code capacity} tokens, refilled continuously at {@code capacity} per {@code period}.
+ * Starts full.
+ */
+class TokenBucket {
+    private final long capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(long capacity, Duration period, long now) {
+        this.capacity = capacity;
+        this.tokensPerNano = (double) capacity / period.toNanos();
+        this.tokens = capacity;
+        this.lastRefill = now;
+    }
+
+    /**
+     * Takes one token if there is one.
+     *
+     * @param now {@link System#nanoTime()}
+     * @return 0 if the token was taken, otherwise the nanoseconds until the next one is available
+     */
+    synchronized long tryConsume(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+
+        if (tokens >= 1) {
+            tokens--;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+}
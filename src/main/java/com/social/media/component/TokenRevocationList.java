@@ -0,0 +1,79 @@
+package com.social.media.component;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token ids ({@code jti}) revoked before their expiry, kept in memory of this instance only.
+ * <p>
+ * Every authenticated request asks {@link #isRevoked(String)}. Almost no token is revoked, so the Bloom filter answers
+ * "no" for nearly all of them without touching the exact set, which only decides the rare filter hits.
+ * Entries are dropped once their token expired anyway, and the filter is rebuilt from what is left.
+ */
+@Component
+public class TokenRevocationList {
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final int expectedInsertions;
+    private final Map<String, Long> expiryByJti = new ConcurrentHashMap<>();
+    private volatile BloomFilter<CharSequence> filter;
+
+    public TokenRevocationList(@Value("${jwt.revocation.expected-insertions:100000}") int expectedInsertions,
+                               MeterRegistry meterRegistry) {
+        this.expectedInsertions = expectedInsertions;
+        this.filter = newFilter(0);
+
+        Gauge.builder("jwt.revoked", expiryByJti, Map::size)
+                .description("Revoked tokens that have not expired yet")
+                .register(meterRegistry);
+    }
+
+    public boolean isRevoked(String jti) {
+        return jti != null && filter.mightContain(jti) && expiryByJti.containsKey(jti);
+    }
+
+    /**
+     * Revokes the token unless it already is, checked and set at once, so of concurrent callers only one wins.
+     *
+     * @param expiresAt epoch millis after which the token is rejected anyway and the entry can go
+     * @return whether this call revoked the token, {@code false} if it was revoked before, expired or has no id
+     */
+    public synchronized boolean revoke(String jti, long expiresAt) {
+        if (jti == null || expiresAt <= System.currentTimeMillis()) {
+            return false;
+        }
+        if (expiryByJti.putIfAbsent(jti, expiresAt) != null) {
+            return false;
+        }
+        filter.put(jti);
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-ms:60000}")
+    public synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        if (expiryByJti.values().removeIf(expiresAt -> expiresAt <= now)) {
+            var rebuilt = newFilter(expiryByJti.size());
+            expiryByJti.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+        }
+    }
+
+    int size() {
+        return expiryByJti.size();
+    }
+
+    private BloomFilter<CharSequence> newFilter(int entries) {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8),
+                Math.max(expectedInsertions, entries * 2), FALSE_POSITIVE_PROBABILITY);
+    }
+}
@@ -0,0 +1,265 @@
+package com.social.media.component;
+
+import com.social.media.model.entity.User;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory typeahead over users: a radix trie keyed by the username, "first last" and the last name (lower case),
+ * so one prefix matches any of them. Lookups never touch the database.
+ * One read-write lock guards the whole trie: reads share it, saves and deletes take it exclusively, they only change
+ * the few nodes on the paths of the user's keys, so they hold it briefly.
+ */
+@Component
+public class UserAutocompleteIndex {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, Suggestion> users = new HashMap<>();
+    private Node root = new Node("");
+
+    public void put(User user) {
+        var suggestion = new Suggestion(user.getId(), user.getUsername(), user.getFirstName(), user.getLastName());
+
+        lock.writeLock().lock();
+        try {
+            var old = users.put(suggestion.id(), suggestion);
+            if (old != null) {
+                keys(old).forEach(key -> remove(root, key, old.id()));
+            }
+            keys(suggestion).forEach(key -> insert(root, key, suggestion.id()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long userId) {
+        lock.writeLock().lock();
+        try {
+            var old = users.remove(userId);
+            if (old != null) {
+                keys(old).forEach(key -> remove(root, key, userId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Builds a new trie from {@code suggestions} and swaps it in, readers keep using the old one meanwhile.
+     */
+    public void replaceAll(Collection<Suggestion> suggestions) {
+        var newUsers = new HashMap<Long, Suggestion>(suggestions.size() * 2);
+        var newRoot = new Node("");
+        for (var suggestion : suggestions) {
+            newUsers.put(suggestion.id(), suggestion);
+            keys(suggestion).forEach(key -> insert(newRoot, key, suggestion.id()));
+        }
+
+        lock.writeLock().lock();
+        try {
+            users = newUsers;
+            root = newRoot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return at most {@code limit} users with a username or name starting with {@code prefix} (case-insensitive),
+     * in alphabetical order of the matched key, so an exact match comes before the longer keys it is a prefix of,
+     * but not before a shorter key that sorts after it; users sharing a key come in no particular order
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        var key = normalize(prefix);
+        var found = new LinkedHashSet<Long>();
+
+        lock.readLock().lock();
+        try {
+            var node = find(key);
+            if (node != null && limit > 0) {
+                collect(node, found, limit);
+            }
+            return found.stream()
+                    .map(users::get)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return users.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Node find(String key) {
+        var node = root;
+        int position = 0;
+        while (position < key.length()) {
+            var child = node.child(key.charAt(position));
+            if (child == null) {
+                return null;
+            }
+
+            int remaining = key.length() - position;
+            if (remaining <= child.label.length()) {
+                return child.label.startsWith(key.substring(position)) ? child : null;
+            }
+            if (!key.startsWith(child.label, position)) {
+                return null;
+            }
+            position += child.label.length();
+            node = child;
+        }
+        return node;
+    }
+
+    private static void collect(Node node, Set<Long> found, int limit) {
+        for (int i = 0; i < node.size && found.size() < limit; i++) {
+            found.add(node.values[i]);
+        }
+        if (node.children == null) {
+            return;
+        }
+        for (var child : node.children.values()) {
+            if (found.size() >= limit) {
+                return;
+            }
+            collect(child, found, limit);
+        }
+    }
+
+    private static void insert(Node root, String key, long value) {
+        var node = root;
+        int position = 0;
+        while (position < key.length()) {
+            char first = key.charAt(position);
+            var child = node.child(first);
+            if (child == null) {
+                var leaf = new Node(key.substring(position));
+                leaf.add(value);
+                node.put(leaf);
+                return;
+            }
+
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length()) {
+                var middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.put(child);
+                node.put(middle);
+                child = middle;
+            }
+            position += common;
+            node = child;
+        }
+        node.add(value);
+    }
+
+    private static void remove(Node root, String key, long value) {
+        var path = new ArrayDeque<Node>();
+        var node = root;
+        int position = 0;
+        while (position < key.length()) {
+            var child = node.child(key.charAt(position));
+            if (child == null || !key.startsWith(child.label, position)) {
+                return;
+            }
+            path.push(node);
+            position += child.label.length();
+            node = child;
+        }
+        node.remove(value);
+
+        while (!path.isEmpty() && node.size == 0) {
+            var parent = path.pop();
+            if (node.children == null || node.children.isEmpty()) {
+                parent.children.remove(node.label.charAt(0));
+            } else if (node.children.size() == 1) {
+                var only = node.children.values().iterator().next();
+                only.label = node.label + only.label;
+                parent.put(only);
+            } else {
+                return;
+            }
+            node = parent;
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static List<String> keys(Suggestion suggestion) {
+        return List.of(
+                normalize(suggestion.username()),
+                normalize(suggestion.firstName() + " " + suggestion.lastName()),
+                normalize(suggestion.lastName())
+        );
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public record Suggestion(long id, String username, String firstName, String lastName) {
+    }
+
+    /**
+     * Trie node, the label is the part of the key on the edge from its parent. Children are kept by their first
+     * character in a sorted map so matches are collected alphabetically.
+     */
+    private static class Node {
+        private String label;
+        private TreeMap<Character, Node> children;
+        private long[] values = new long[0];
+        private int size;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node child(char first) {
+            return children == null ? null : children.get(first);
+        }
+
+        private void put(Node child) {
+            if (children == null) {
+                children = new TreeMap<>();
+            }
+            children.put(child.label.charAt(0), child);
+        }
+
+        private void add(long value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    return;
+                }
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(1, size * 2));
+            }
+            values[size++] = value;
+        }
+
+        private void remove(long value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    values[i] = values[--size];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package com.social.media.config;
 
+import com.social.media.util.OffloadedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.cors.CorsConfiguration;
@@ -11,10 +16,23 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import java.util.List;
 
 @Configuration
+@EnableScheduling
+@ImportRuntimeHints(NativeHints.class)
 public class AppConfig {
+    /**
+     * BCrypt on its own bounded pool, {@code bcrypt.threads} defaults to the number of processors.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${bcrypt.strength:10}") int strength,
+                                           @Value("${bcrypt.threads:0}") int threads,
+                                           @Value("${bcrypt.queue-capacity:64}") int queueCapacity,
+                                           MeterRegistry meterRegistry) {
+        return new OffloadedPasswordEncoder(
+                new BCryptPasswordEncoder(strength),
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+                queueCapacity,
+                meterRegistry
+        );
     }
 
     @Bean
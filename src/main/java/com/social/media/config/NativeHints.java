@@ -0,0 +1,72 @@
+package com.social.media.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Reachability metadata for the native image: classes that are only reached through reflection,
+ * serialization or {@link java.util.ServiceLoader} and are therefore invisible to the static analysis.
+ */
+public class NativeHints implements RuntimeHintsRegistrar {
+    private static final MemberCategory[] ALL_MEMBERS = {
+            MemberCategory.DECLARED_FIELDS,
+            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+            MemberCategory.INVOKE_DECLARED_METHODS
+    };
+
+    private static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.impl.crypto.MacProvider",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+        MetadataReaderFactory readerFactory = new CachingMetadataReaderFactory(resolver);
+
+        registerPackage(hints, resolver, readerFactory, "com/social/media/model/entity");
+        registerPackage(hints, resolver, readerFactory, "com/social/media/model/mapper");
+        registerPackage(hints, resolver, readerFactory, "com/social/media/search");
+        registerPackage(hints, resolver, readerFactory, "io/minio/messages");
+        registerPackage(hints, resolver, readerFactory, "org/simpleframework/xml/core");
+
+        JJWT_TYPES.forEach(type -> hints.reflection().registerType(TypeReference.of(type), ALL_MEMBERS));
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+        hints.resources().registerPattern("META-INF/services/org.apache.lucene.*");
+        hints.resources().registerPattern("db/migration/*/*.sql");
+
+        hints.serialization().registerType(File.class);
+    }
+
+    private void registerPackage(RuntimeHints hints, PathMatchingResourcePatternResolver resolver,
+                                 MetadataReaderFactory readerFactory, String packagePath) {
+        try {
+            for (Resource resource : resolver.getResources("classpath*:" + packagePath + "/*.class")) {
+                String className = readerFactory.getMetadataReader(resource).getClassMetadata().getClassName();
+                hints.reflection().registerType(TypeReference.of(className), ALL_MEMBERS);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not scan " + packagePath + " for native hints", exception);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.social.media.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.observability.ContextProviderFactory;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener;
+
+/**
+ * Turns {@link io.micrometer.observation.annotation.Observed @Observed} beans into timers tagged with the class and
+ * method, published at {@code /actuator/prometheus} next to the HTTP, repository, Hikari and Mongo meters of Spring Boot.
+ * <p>
+ * The same observations become trace spans, together with HTTP requests, JDBC connections and statements
+ * (datasource-micrometer) and Mongo commands. Sampled spans go to the exporter chosen by {@code tracing.exporter}:
+ * {@code otlp}, {@code logging} or {@code none}.
+ */
+@Configuration
+public class ObservabilityConfig {
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoObservationCustomizer(ObservationRegistry observationRegistry) {
+        return builder -> builder
+                .addCommandListener(new MongoObservationCommandListener(observationRegistry))
+                .contextProvider(ContextProviderFactory.create(observationRegistry));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.exporter", havingValue = "otlp")
+    public OtlpHttpSpanExporter otlpHttpSpanExporter(@Value("${tracing.otlp.endpoint}") String endpoint) {
+        return OtlpHttpSpanExporter.builder()
+                .setEndpoint(endpoint)
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.exporter", havingValue = "logging")
+    public LoggingSpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
@@ -0,0 +1,44 @@
+package com.social.media.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rate limit policies under {@code rate-limit.policies.<name>}. A request is limited only by the policy with the most
+ * specific path pattern among those matching its path and method.
+ *
+ * @param maxKeys buckets kept at most, the least recently used ones are evicted first
+ */
+@ConfigurationProperties("rate-limit")
+public record RateLimitProperties(@DefaultValue("true") boolean enabled,
+                                  @DefaultValue("100000") int maxKeys,
+                                  @DefaultValue Map<String, Policy> policies) {
+
+    /**
+     * @param path     path pattern, e.g. {@code /api/auth/login/**}
+     * @param methods  limited HTTP methods, all of them when empty
+     * @param capacity requests allowed in a burst, the bucket refills this many tokens evenly over {@code period}
+     * @param key      whose requests share a bucket
+     */
+    public record Policy(String path,
+                         @DefaultValue List<String> methods,
+                         long capacity,
+                         Duration period,
+                         @DefaultValue("ip") Key key) {
+    }
+
+    public enum Key {
+        /**
+         * The client address.
+         */
+        IP,
+        /**
+         * The subject of a valid bearer token, the client address for requests without one.
+         */
+        USER
+    }
+}
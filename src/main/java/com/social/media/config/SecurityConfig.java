@@ -2,7 +2,11 @@ package com.social.media.config;
 
 import com.social.media.component.AuthEntryPointJwt;
 import com.social.media.component.AuthTokenFilter;
+import com.social.media.component.RateLimitFilter;
+import com.social.media.component.RequestLoggingFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.AllArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -11,14 +15,18 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @AllArgsConstructor
 public class SecurityConfig {
     private final AuthTokenFilter authenticationTokenFilter;
+    private final RequestLoggingFilter requestLoggingFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final AuthEntryPointJwt authEntryPointJwt;
     private final CorsConfigurationSource configurationSource;
 
@@ -38,15 +46,26 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests(
                         authorizeHttpRequests -> authorizeHttpRequests
+                                // error pages only render the status a filter already sent, e.g. 429 from the rate limits
+                                .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
                                 .requestMatchers("/api/auth/login/email").permitAll()
                                 .requestMatchers("/api/auth/login/username").permitAll()
                                 .requestMatchers("/api/auth/register").permitAll()
+                                // authenticated by the refresh token cookie, logout also works with an expired access token
+                                .requestMatchers("/api/auth/refresh").permitAll()
+                                .requestMatchers("/api/auth/logout").permitAll()
+                                .requestMatchers("/actuator/health").permitAll()
+                                .requestMatchers("/actuator/**").hasRole("ADMIN")
                                 .anyRequest()
                                 .authenticated()
                 );
 
-        // added filter before and build SecurityFilterChain!
+        // access logging wraps the rest of the chain, so it still sees the user and the 401/403 responses!
+        httpSecurity.addFilterAfter(requestLoggingFilter, SecurityContextHolderFilter.class);
+
+        // added filter before, rate limits ahead of it and build SecurityFilterChain!
         return httpSecurity.addFilterBefore(authenticationTokenFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, AuthTokenFilter.class)
                 .build();
     }
 }
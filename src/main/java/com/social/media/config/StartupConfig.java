@@ -0,0 +1,18 @@
+package com.social.media.config;
+
+import com.social.media.component.AuthTokenFilter;
+import com.social.media.util.JwtUtils;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.web.SecurityFilterChain;
+
+@Configuration
+public class StartupConfig {
+    // with 'spring.main.lazy-initialization' everything else is created on first use, but the security chain
+    // is needed by the very first request, so building it then would only move the cost into that request
+    @Bean
+    static LazyInitializationExcludeFilter eagerSecurityBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(SecurityFilterChain.class, AuthTokenFilter.class, JwtUtils.class);
+    }
+}
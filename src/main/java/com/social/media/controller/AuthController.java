@@ -1,5 +1,6 @@
 package com.social.media.controller;
 
+import com.social.media.component.TokenRevocationList;
 import com.social.media.model.dto.auth.LoginRequestWithEmail;
 import com.social.media.model.dto.auth.LoginRequestWithUsername;
 import com.social.media.model.dto.user.UserCreateRequest;
@@ -8,18 +9,19 @@ import com.social.media.model.dto.user.UserResponse;
 import com.social.media.service.RoleService;
 import com.social.media.service.UserService;
 import com.social.media.util.JwtUtils;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.time.LocalDateTime;
+import java.util.Optional;
 
-@Slf4j
 @RestController
 @AllArgsConstructor
 @RequestMapping("/api/auth")
@@ -29,27 +31,28 @@ public class AuthController {
     private final RoleService roleService;
     private final UserService userService;
     private final UserMapper mapper;
+    private final TokenRevocationList revocationList;
+
+    private static final String BEARER_PREFIX = "Bearer ";
 
     @PostMapping("/login/username")
-    public String login(@RequestBody @Valid LoginRequestWithUsername loginRequest) {
+    public String login(@RequestBody @Valid LoginRequestWithUsername loginRequest, HttpServletResponse response) {
         var userDetails = userService.readByUsername(loginRequest.getUsername());
 
         matchesPassword(loginRequest.getPassword(), userDetails.getPassword());
+        userService.upgradePasswordEncoding(userDetails, loginRequest.getPassword());
 
-        log.info("=== POST-LOGIN-USERNAME === auth.name - {} === time - {}.", userDetails.getUsername(), LocalDateTime.now());
-
-        return jwtUtils.generateTokenFromUsername(userDetails.getUsername());
+        return issueTokens(userDetails.getUsername(), response);
     }
 
     @PostMapping("/login/email")
-    public String login(@RequestBody @Valid LoginRequestWithEmail loginRequest) {
+    public String login(@RequestBody @Valid LoginRequestWithEmail loginRequest, HttpServletResponse response) {
         var userDetails = userService.readByEmail(loginRequest.getEmail());
 
         matchesPassword(loginRequest.getPassword(), userDetails.getPassword());
+        userService.upgradePasswordEncoding(userDetails, loginRequest.getPassword());
 
-        log.info("=== POST-LOGIN-EMAIL === auth.name - {} === time - {}.", userDetails.getEmail(), LocalDateTime.now());
-
-        return jwtUtils.generateTokenFromUsername(userDetails.getEmail());
+        return issueTokens(userDetails.getEmail(), response);
     }
 
     @PostMapping("/register")
@@ -57,10 +60,63 @@ public class AuthController {
     public UserResponse createNewCustomer(@RequestBody @Valid UserCreateRequest userCreateRequest) {
         var user = userService.create(mapper.createUserFromUserCreateRequest(userCreateRequest), roleService.readByName("USER"));
 
-        log.info("=== POST-REGISTER === reg.name - {} === time - {}.", user.getUsername(), LocalDateTime.now());
         return mapper.createUserResponseFromUser(user);
     }
 
+    /**
+     * Trades the refresh token cookie for a new access token. The refresh token is rotated, the old one is revoked,
+     * so a stolen and already used refresh token is worthless. Of concurrent refreshes with the same token only the one
+     * revoking it gets new tokens.
+     */
+    @PostMapping("/refresh")
+    public String refresh(@CookieValue(name = JwtUtils.REFRESH_COOKIE, required = false) String refreshToken,
+                          HttpServletResponse response) {
+        var claims = Optional.ofNullable(refreshToken)
+                .filter(token -> !token.isBlank())
+                .flatMap(jwtUtils::parseRefreshToken)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatusCode.valueOf(401), "Invalid refresh token"));
+
+        var subject = claims.getSubject();
+        if (userService.findByUsernameOrEmail(subject).isEmpty()) {
+            throw new ResponseStatusException(HttpStatusCode.valueOf(401), "Invalid refresh token");
+        }
+
+        if (!revocationList.revoke(claims.getId(), claims.getExpiration().getTime())) {
+            throw new ResponseStatusException(HttpStatusCode.valueOf(401), "Invalid refresh token");
+        }
+        return issueTokens(subject, response);
+    }
+
+    /**
+     * Revokes the access token of the request and the refresh token cookie, whichever of them is still valid.
+     */
+    @PostMapping("/logout")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void logout(@RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                       @CookieValue(name = JwtUtils.REFRESH_COOKIE, required = false) String refreshToken,
+                       HttpServletResponse response) {
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            jwtUtils.findValidClaims(authorization.substring(BEARER_PREFIX.length()))
+                    .ifPresent(this::revoke);
+        }
+        if (refreshToken != null) {
+            jwtUtils.findValidClaims(refreshToken)
+                    .ifPresent(this::revoke);
+        }
+
+        response.addHeader(HttpHeaders.SET_COOKIE, jwtUtils.clearedRefreshCookie().toString());
+    }
+
+    private String issueTokens(String subject, HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, jwtUtils.refreshCookie(jwtUtils.generateRefreshToken(subject)).toString());
+
+        return jwtUtils.generateTokenFromUsername(subject);
+    }
+
+    private void revoke(Claims claims) {
+        revocationList.revoke(claims.getId(), claims.getExpiration().getTime());
+    }
+
     private void matchesPassword(String enteredPassword, String dbPassword) {
         if (!passwordEncoder.matches(enteredPassword, dbPassword)) {
             throw new ResponseStatusException(HttpStatusCode.valueOf(401), "Wrong password");
@@ -6,8 +6,7 @@ import com.social.media.model.mapper.CommentMapper;
 import com.social.media.service.CommentService;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.http.HttpStatus;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -15,9 +14,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
-import static com.social.media.controller.ControllerHelper.getRole;
-
-@Slf4j
 @RestController
 @AllArgsConstructor
 @RequestMapping("/api")
@@ -28,26 +24,24 @@ public class CommentController {
     @GetMapping("/users/{owner-id}/posts/{post-id}/comments")
     @PreAuthorize("@authPostService.isUserOwnerOfPostWithoutAdmin(#ownerId, #postId)")
     public List<CommentResponseForPost> getAllCommentsUnderPost(@PathVariable("owner-id") long ownerId,
-                                                                @PathVariable("post-id") long postId, Authentication authentication) {
+                                                                @PathVariable("post-id") long postId) {
         var responses = commentService
                 .getAllByPostId(postId)
                 .stream()
                 .map(mapper::createCommentResponseForPostFromComment)
                 .toList();
-        log.info("=== GET-POSTS-ID-COMMENTS === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return responses;
     }
 
     @GetMapping("/users/{owner-id}/comments")
     @PreAuthorize("@authUserService.isAuthAndUserSame(#ownerId, authentication.principal)")
-    public List<CommentResponseForOwner> getAllUserComments(@PathVariable("owner-id") long ownerId, Authentication authentication) {
+    public List<CommentResponseForOwner> getAllUserComments(@PathVariable("owner-id") long ownerId) {
         var responses = commentService
                 .getAllByOwnerId(ownerId)
                 .stream()
                 .map(mapper::createCommentResponseForOwnerFromComment)
                 .toList();
-        log.info("=== GET-USERS-ID-COMMENTS === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return responses;
     }
@@ -58,9 +52,8 @@ public class CommentController {
                                               @NotBlank(message = "Comment cannot be blank!")
                                               @RequestParam String comment, Authentication authentication) {
         var created = commentService.create(authentication.getName(), postId, comment);
-        log.info("=== POST-USERS-ID-POSTS-ID-COMMENTS === {} - {}", getRole(authentication), authentication);
 
-        return ResponseEntity.status(HttpStatus.SC_CREATED)
+        return ResponseEntity.status(HttpStatus.CREATED)
                 .body(
                         String.format("User %s comment successfully set for %s post.", created.getOwner().getName(), created.getPost().getOwner().getName())
                 );
@@ -70,9 +63,8 @@ public class CommentController {
     @PreAuthorize("@authCommentService.isUsersSameAndOwnerOfPostAndPostContainCommentWithoutAdmin(#ownerId, #postId, #id, authentication.principal)")
     public ResponseEntity<String> updateComment(@PathVariable("owner-id") long ownerId, @PathVariable("post-id") long postId, @PathVariable long id,
                                                 @NotBlank(message = "Comment cannot be blank!")
-                                                @RequestParam("comment") String updatedComment, Authentication authentication) {
+                                                @RequestParam("comment") String updatedComment) {
         var updated = commentService.update(id, updatedComment);
-        log.info("=== PUT-USERS-ID-POSTS-ID-COMMENTS-ID === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return ResponseEntity.ok(
                 String.format("User %s comment successfully updated for %s post", updated.getOwner().getName(), updated.getPost().getOwner().getName())
@@ -82,10 +74,9 @@ public class CommentController {
     @DeleteMapping("/users/{owner-id}/posts/{post-id}/comments/{id}")
     @PreAuthorize("@authCommentService.isUsersSameAndOwnerOfPostAndPostContainCommentWithoutAdmin(#ownerId, #postId, #id, authentication.principal)")
     public ResponseEntity<String> deleteComment(@PathVariable("owner-id") long ownerId, @PathVariable("post-id") long postId,
-                                                @PathVariable long id, Authentication authentication) {
+                                                @PathVariable long id) {
         var comment = commentService.readById(id);
         commentService.delete(id);
-        log.info("=== DELETE-USERS-ID-POSTS-ID-COMMENTS-ID === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return ResponseEntity.ok(
                 String.format("User %s comment successfully deleted for %s post", comment.getOwner().getName(), comment.getPost().getOwner().getName())
@@ -0,0 +1,34 @@
+package com.social.media.controller;
+
+import com.social.media.model.dto.post.PostResponse;
+import com.social.media.model.mapper.PostMapper;
+import com.social.media.service.TimelineService;
+import com.social.media.service.UserService;
+import lombok.AllArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/feed")
+public class FeedController {
+    private final TimelineService timelineService;
+    private final UserService userService;
+    private final PostMapper mapper;
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public List<PostResponse> getFeed(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size,
+                                      Authentication authentication) {
+        var user = userService.readByUsername(authentication.getName());
+        var responses = timelineService.getFeed(user.getId(), page, size)
+                .stream()
+                .map(mapper::createPostResponseFromPost)
+                .toList();
+
+        return responses;
+    }
+}
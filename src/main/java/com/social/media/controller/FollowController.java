@@ -0,0 +1,64 @@
+package com.social.media.controller;
+
+import com.social.media.model.dto.user.UserResponse;
+import com.social.media.model.mapper.UserMapper;
+import com.social.media.service.FollowService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/users/{owner-id}")
+public class FollowController {
+    private final FollowService followService;
+    private final UserMapper mapper;
+
+    @GetMapping("/followers")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public List<UserResponse> getFollowers(@PathVariable("owner-id") long ownerId) {
+        var responses = followService.getFollowers(ownerId)
+                .stream()
+                .map(mapper::createUserResponseFromUser)
+                .toList();
+
+        return responses;
+    }
+
+    @GetMapping("/followings")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public List<UserResponse> getFollowings(@PathVariable("owner-id") long ownerId) {
+        var responses = followService.getFollowings(ownerId)
+                .stream()
+                .map(mapper::createUserResponseFromUser)
+                .toList();
+
+        return responses;
+    }
+
+    @PostMapping("/followings/{user-id}")
+    @PreAuthorize("@authUserService.isAuthAndUserSameWithoutAdmin(#ownerId, authentication.principal)")
+    public ResponseEntity<String> follow(@PathVariable("owner-id") long ownerId, @PathVariable("user-id") long userId) {
+        var created = followService.create(ownerId, userId);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(
+                        String.format("User %s now follows %s.", created.getFollower().getName(), created.getFollowed().getName())
+                );
+    }
+
+    @DeleteMapping("/followings/{user-id}")
+    @PreAuthorize("@authUserService.isAuthAndUserSameWithoutAdmin(#ownerId, authentication.principal)")
+    public ResponseEntity<String> unfollow(@PathVariable("owner-id") long ownerId, @PathVariable("user-id") long userId) {
+        var follow = followService.read(ownerId, userId);
+        followService.delete(ownerId, userId);
+
+        return ResponseEntity.ok(
+                String.format("User %s no longer follows %s.", follow.getFollower().getName(), follow.getFollowed().getName())
+        );
+    }
+}
@@ -5,8 +5,7 @@ import com.social.media.model.dto.like.LikeResponseForPosts;
 import com.social.media.model.mapper.LikeMapper;
 import com.social.media.service.LikeService;
 import lombok.AllArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.http.HttpStatus;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -14,9 +13,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
-import static com.social.media.controller.ControllerHelper.getRole;
-
-@Slf4j
 @RestController
 @AllArgsConstructor
 @RequestMapping("/api")
@@ -26,27 +22,24 @@ public class LikeController {
 
     @GetMapping("/users/{owner-id}/posts/{post-id}/likes")
     @PreAuthorize("@authPostService.isUserOwnerOfPostWithoutAdmin(#ownerId, #postId)")
-    public List<LikeResponseForPosts> getAllLikesUnderPost(@PathVariable("owner-id") long ownerId, @PathVariable("post-id") long postId,
-                                                           Authentication authentication) {
+    public List<LikeResponseForPosts> getAllLikesUnderPost(@PathVariable("owner-id") long ownerId, @PathVariable("post-id") long postId) {
         var responses = likeService.
                 getAllLikesUnderPost(postId)
                 .stream()
                 .map(mapper::createLikeResponseForPostsFromLike)
                 .toList();
-        log.info("=== GET-POST-ID-LIKES === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return responses;
     }
 
     @GetMapping("/users/{owner-id}/likes")
     @PreAuthorize("@authUserService.isAuthAndUserSame(#ownerId, authentication.principal)")
-    public List<LikeResponseForOwner> getAllUserLikes(@PathVariable("owner-id") long ownerId, Authentication authentication) {
+    public List<LikeResponseForOwner> getAllUserLikes(@PathVariable("owner-id") long ownerId) {
         var responses = likeService
                 .getAllOwnerLikes(ownerId)
                 .stream()
                 .map(mapper::createLikeResponseForOwnerFromLike)
                 .toList();
-        log.info("=== GET-USER-ID-LIKES === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return responses;
     }
@@ -55,9 +48,8 @@ public class LikeController {
     @PreAuthorize("@authPostService.isUserOwnerOfPostWithoutAdmin(#ownerId, #postId)")
     public ResponseEntity<String> setLike(@PathVariable("owner-id") long ownerId, @PathVariable("post-id") long postId, Authentication authentication) {
         var created = likeService.create(authentication.getName(), postId);
-        log.info("=== POST-USER-ID-POSTS-ID-LIKE === {} - {}", getRole(authentication), authentication.getPrincipal());
 
-        return ResponseEntity.status(HttpStatus.SC_CREATED)
+        return ResponseEntity.status(HttpStatus.CREATED)
                 .body(
                         String.format("User %s like successfully set for %s post.", created.getOwner().getName(), created.getPost().getOwner().getName())
                 );
@@ -66,10 +58,9 @@ public class LikeController {
     @DeleteMapping("/users/{owner-id}/posts/{post-id}/likes/{id}")
     @PreAuthorize("@authLikeService.isUsersSameAndOwnerOfPostAndPostContainLikeWithoutAdmin(#ownerId, #postId, #id, authentication.principal)")
     public ResponseEntity<String> removeLike(@PathVariable("owner-id") long ownerId, @PathVariable("post-id") long postId,
-                                             @PathVariable long id, Authentication authentication) {
+                                             @PathVariable long id) {
         var like = likeService.readById(id);
         likeService.delete(id);
-        log.info("=== DELETE-USER-ID-POSTS-ID-LIKE === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return ResponseEntity.ok(
                 String.format("User %s like successfully removed for %s post.", like.getOwner().getName(), like.getPost().getOwner().getName())
@@ -4,62 +4,82 @@ import com.social.media.model.dto.post.PostCreateRequest;
 import com.social.media.model.dto.post.PostResponse;
 import com.social.media.model.mapper.PostMapper;
 import com.social.media.service.PostService;
+import com.social.media.service.TrendingService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
-import static com.social.media.controller.ControllerHelper.getRole;
-
-@Slf4j
 @RestController
 @AllArgsConstructor
 @RequestMapping("/api")
 public class PostController {
     private final PostService postService;
+    private final TrendingService trendingService;
     private final PostMapper mapper;
 
     @GetMapping("/posts")
     @PreAuthorize("hasRole('ADMIN')")
-    public List<PostResponse> getAllPosts(Authentication authentication) {
+    public List<PostResponse> getAllPosts() {
         var responses = postService
                 .getAll()
                 .stream()
                 .map(mapper::createPostResponseFromPost)
                 .toList();
-        log.info("=== GET-POSTS === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return responses;
     }
 
+    @GetMapping("/posts/trending")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public List<PostResponse> getTrendingPosts(@RequestParam(defaultValue = "20") int limit) {
+        var responses = trendingService
+                .getTrending(limit)
+                .stream()
+                .map(mapper::createPostResponseFromPost)
+                .toList();
+
+        return responses;
+    }
+
+    @GetMapping(value = "/posts/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public Flux<PostResponse> streamAllPosts() {
+        return postService.streamAll(mapper::createPostResponseFromPost);
+    }
+
+    @GetMapping(value = "/users/{owner-id}/posts/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public Flux<PostResponse> streamAllUserPosts(@PathVariable("owner-id") long ownerId) {
+        return postService.streamUserPosts(ownerId, mapper::createPostResponseFromPost);
+    }
+
     @GetMapping("/users/{owner-id}/posts")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public List<PostResponse> getAllUserPosts(@PathVariable("owner-id") long ownerId, Authentication authentication) {
+    public List<PostResponse> getAllUserPosts(@PathVariable("owner-id") long ownerId) {
         var responses = postService
                 .getUserPosts(ownerId)
                 .stream()
                 .map(mapper::createPostResponseFromPost)
                 .toList();
-        log.info("=== GET-USER-ID-POSTS === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return responses;
     }
 
     @GetMapping("/users/{owner-id}/posts/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public PostResponse getUserPost(@PathVariable("owner-id") long ownerId, @PathVariable long id, Authentication authentication) {
+    public PostResponse getUserPost(@PathVariable("owner-id") long ownerId, @PathVariable long id) {
         var response = mapper.createPostResponseFromPost(
                 postService.readByOwnerIdAndId(ownerId, id)
         );
-        log.info("=== GET-USER-ID-POST-ID === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return response;
     }
@@ -68,11 +88,10 @@ public class PostController {
     @ResponseStatus(HttpStatus.CREATED)
     @PreAuthorize("@authUserService.isAuthAndUserSameWithoutAdmin(#ownerId, authentication.principal)")
     public PostResponse createPost(@PathVariable("owner-id") long ownerId,
-                                   @RequestBody @Valid PostCreateRequest createRequest, Authentication authentication) {
+                                   @RequestBody @Valid PostCreateRequest createRequest) {
         var created = mapper.createPostResponseFromPost(
                 postService.create(ownerId, createRequest.getDescription(), createRequest.getPhotos())
         );
-        log.info("=== POST-USER-ID-POST === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return created;
     }
@@ -80,21 +99,19 @@ public class PostController {
     @PutMapping("/users/{owner-id}/posts/{id}")
     @PreAuthorize("@authPostService.isAuthAndUserSameAndUserOwnerOfPostWithoutAdmin(#ownerId, #id, authentication.principal)")
     public PostResponse updatePostDesc(@PathVariable("owner-id") long ownerId, @PathVariable long id,
-                                       @RequestBody @NotEmpty @NotNull @Valid String description, Authentication authentication) {
+                                       @RequestBody @NotEmpty @NotNull @Valid String description) {
         var updated = mapper.createPostResponseFromPost(
                 postService.update(id, description)
         );
-        log.info("=== PUT-USER-ID-POST-ID === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return updated;
     }
 
     @DeleteMapping("/users/{owner-id}/posts/{id}")
     @PreAuthorize("@authPostService.isAuthAndUserSameAndUserOwnerOfPostWithoutAdmin(#ownerId, #id, authentication.principal)")
-    public ResponseEntity<String> deletePost(@PathVariable("owner-id") long ownerId, @PathVariable long id, Authentication authentication) {
+    public ResponseEntity<String> deletePost(@PathVariable("owner-id") long ownerId, @PathVariable long id) {
         var post = postService.readById(id);
         postService.delete(id);
-        log.info("=== DELETE-USER-ID-POST-ID === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return ResponseEntity.ok("Post for user " + post.getOwner().getName() + " successfully deleted!");
     }
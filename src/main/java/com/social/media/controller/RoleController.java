@@ -5,19 +5,14 @@ import com.social.media.model.mapper.RoleMapper;
 import com.social.media.service.RoleService;
 import com.social.media.service.UserService;
 import lombok.AllArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import static com.social.media.controller.ControllerHelper.getRole;
-
-@Slf4j
 @RestController
 @AllArgsConstructor
 @RequestMapping("/api/roles")
@@ -28,39 +23,35 @@ public class RoleController {
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public Set<RoleResponse> getAllRoles(Authentication authentication) {
+    public Set<RoleResponse> getAllRoles() {
         var responses = roleService.getAll()
                 .stream()
                 .map(mapper::createRoleResponseFromEntity)
                 .collect(Collectors.toSet());
 
-        log.info("=== GET-ROLES === admin - {}", authentication.getPrincipal());
         return responses;
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public RoleResponse getRoleById(@PathVariable long id, Authentication authentication) {
+    public RoleResponse getRoleById(@PathVariable long id) {
         var role = mapper.createRoleResponseFromEntity(roleService.readById(id));
-        log.info("=== GET-ROLE-ID === admin - {}", authentication.getPrincipal());
 
         return role;
     }
 
     @GetMapping("/name/{name}")
     @PreAuthorize("hasRole('ADMIN')")
-    public RoleResponse getRoleByName(@PathVariable String name, Authentication authentication) {
+    public RoleResponse getRoleByName(@PathVariable String name) {
         var role = mapper.createRoleResponseFromEntity(roleService.readByName(name));
-        log.info("=== GET-ROLE-NAME === admin - {}", authentication.getPrincipal());
 
         return role;
     }
 
     @GetMapping("/user/{user-id}")
     @PreAuthorize("@authUserService.isAuthAndUserSame(#id, authentication.principal)")
-    public RoleResponse getMyRole(@PathVariable("user-id") long id, Authentication authentication) {
+    public RoleResponse getMyRole(@PathVariable("user-id") long id) {
         var responseRole = mapper.createRoleResponseFromEntity(userService.readById(id).getRole());
-        log.info("=== GET-USER-ROLE === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return responseRole;
     }
@@ -68,28 +59,25 @@ public class RoleController {
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     @ResponseStatus(HttpStatus.CREATED)
-    public RoleResponse createNew(@RequestParam(name = "name") String name, Authentication authentication) {
+    public RoleResponse createNew(@RequestParam(name = "name") String name) {
         var created = mapper.createRoleResponseFromEntity(roleService.create(name));
-        log.info("=== POST-ROLE === admin - {}", authentication.getPrincipal());
 
         return created;
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public RoleResponse updateRole(@PathVariable long id, @RequestParam(name = "name") String updatedName, Authentication authentication) {
+    public RoleResponse updateRole(@PathVariable long id, @RequestParam(name = "name") String updatedName) {
         var updated = mapper.createRoleResponseFromEntity(roleService.update(id, updatedName));
-        log.info("=== PUT-ROLE === admin - {}", authentication.getPrincipal());
 
         return updated;
     }
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<String> deleteRole(@PathVariable long id, Authentication authentication) {
+    public ResponseEntity<String> deleteRole(@PathVariable long id) {
         var role = roleService.readById(id);
         roleService.delete(id);
-        log.info("=== DELETE-ROLE === admin - {}", authentication.getPrincipal());
 
         return ResponseEntity
                 .status(HttpStatus.OK)
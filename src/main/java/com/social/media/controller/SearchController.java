@@ -0,0 +1,42 @@
+package com.social.media.controller;
+
+import com.social.media.model.dto.search.SearchResponse;
+import com.social.media.model.mapper.SearchMapper;
+import com.social.media.service.SearchService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/search")
+public class SearchController {
+    private final SearchService searchService;
+    private final SearchMapper mapper;
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public List<SearchResponse> search(@RequestParam String q, @RequestParam(required = false) String type,
+                                       @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
+        var responses = searchService.search(q, type, page, size)
+                .stream()
+                .map(mapper::createSearchResponseFromHit)
+                .toList();
+
+        return responses;
+    }
+
+    @PostMapping("/index/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<String> rebuildIndex() {
+        boolean started = searchService.rebuildAsync();
+
+        return started
+                ? ResponseEntity.status(HttpStatus.ACCEPTED).body("Search index rebuild started.")
+                : ResponseEntity.status(HttpStatus.CONFLICT).body("Search index rebuild is already running.");
+    }
+}
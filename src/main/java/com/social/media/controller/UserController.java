@@ -1,95 +1,174 @@
 package com.social.media.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.social.media.component.AsyncTimeouts;
+import com.social.media.exception.NotFoundException;
 import com.social.media.model.dto.user.*;
 import com.social.media.model.mapper.UserMapper;
+import com.social.media.service.DeletionJob;
 import com.social.media.service.RoleService;
+import com.social.media.service.UserDeletionService;
 import com.social.media.service.UserService;
+import com.social.media.util.CsvWriter;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
-import static com.social.media.controller.ControllerHelper.getRole;
-
-@Slf4j
 @RestController
 @AllArgsConstructor
 @RequestMapping("/api/users")
 public class UserController {
+    private static final String TEXT_CSV_VALUE = "text/csv;charset=UTF-8";
+
     private final UserService userService;
+    private final UserDeletionService userDeletionService;
     private final RoleService roleService;
     private final UserMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final AsyncTimeouts asyncTimeouts;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public Set<UserResponse> getAllUsers(Authentication authentication) {
+    public List<UserResponse> getAllUsers() {
         var responses = userService.getAll()
                 .stream()
                 .map(mapper::createUserResponseFromUser)
-                .collect(Collectors.toSet());
-        log.info("=== GET-USERS === admin - {}", authentication.getPrincipal());
+                .toList();
 
         return responses;
     }
 
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Page<UserResponse> getUsersPage(@ModelAttribute UserFilter filter, @PageableDefault(size = 50) Pageable pageable) {
+        return userService.getAll(filter, pageable)
+                .map(mapper::createUserResponseFromUser);
+    }
+
+    /**
+     * One JSON user per line, written while the users are read, so memory stays flat however many users match.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamUsers(@ModelAttribute UserFilter filter, NativeWebRequest request) {
+        asyncTimeouts.applyUserStream(request);
+        var writer = objectMapper.writerFor(UserResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        StreamingResponseBody body = output -> {
+            var buffered = new BufferedOutputStream(output);
+            userService.forEach(filter, user -> {
+                try {
+                    writer.writeValue(buffered, mapper.createUserResponseFromUser(user));
+                    buffered.write('\n');
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+            buffered.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping(value = "/csv", produces = TEXT_CSV_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportUsersCsv(@ModelAttribute UserFilter filter, NativeWebRequest request) {
+        asyncTimeouts.applyUserStream(request);
+        StreamingResponseBody body = output -> {
+            var csv = new CsvWriter(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+            csv.writeRow("id", "username", "first_name", "last_name", "email", "role");
+            userService.forEach(filter, user -> {
+                try {
+                    var response = mapper.createUserResponseFromUser(user);
+                    csv.writeRow(response.getId(), response.getUsername(), response.getFirstName(),
+                            response.getLastName(), response.getEmail(), response.getRole());
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+            csv.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(TEXT_CSV_VALUE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.csv\"")
+                .body(body);
+    }
+
     @GetMapping("/first-name/{first-name}")
     @PreAuthorize("hasRole('ADMIN')")
-    public List<UserResponse> getAllUsersByFirstName(@PathVariable(name = "first-name") String firstName, Authentication authentication) {
+    public List<UserResponse> getAllUsersByFirstName(@PathVariable(name = "first-name") String firstName) {
         var responses = userService.getAllByFirstName(firstName)
                 .stream()
                 .map(mapper::createUserResponseFromUser)
                 .toList();
-        log.info("=== GET-USERS-FIRST-NAME === admin - {}", authentication.getPrincipal());
 
         return responses;
     }
 
     @GetMapping("/last-name/{last-name}")
     @PreAuthorize("hasRole('ADMIN')")
-    public List<UserResponse> getAllUsersByLastName(@PathVariable(name = "last-name") String lastName, Authentication authentication) {
+    public List<UserResponse> getAllUsersByLastName(@PathVariable(name = "last-name") String lastName) {
         var responses = userService.getAllByLastName(lastName)
                 .stream()
                 .map(mapper::createUserResponseFromUser)
                 .toList();
-        log.info("=== GET-USERS-LAST-NAME === admin - {}", authentication.getPrincipal());
 
         return responses;
     }
 
     @GetMapping("/role/{role}")
     @PreAuthorize("hasRole('ADMIN')")
-    public List<UserResponse> getAllUsersByRole(@PathVariable String role, Authentication authentication) {
+    public List<UserResponse> getAllUsersByRole(@PathVariable String role) {
         var responses = userService.getAllByRole(role)
                 .stream()
                 .map(mapper::createUserResponseFromUser)
                 .toList();
-        log.info("=== GET-USERS-ROLE-NAME === admin - {}", authentication.getPrincipal());
+
+        return responses;
+    }
+
+    @GetMapping("/autocomplete")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public List<UserSuggestionResponse> autocomplete(@RequestParam String prefix, @RequestParam(defaultValue = "10") int limit) {
+        var responses = userService.autocomplete(prefix, limit)
+                .stream()
+                .map(mapper::createUserSuggestionResponseFromSuggestion)
+                .toList();
 
         return responses;
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("@authUserService.isAuthAndUserSame(#id, authentication.principal)")
-    public UserResponse getUserById(@PathVariable long id, Authentication authentication) {
+    public UserResponse getUserById(@PathVariable long id) {
         var user = mapper.createUserResponseFromUser(userService.readById(id));
-        log.info("=== GET-USER-ID === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return user;
     }
 
     @GetMapping("/username-email/{username-or-email}")
     @PreAuthorize("@authUserService.isAuthAndUserSameByUsernameOrEmail(#usernameOrEmail, authentication.principal)")
-    public UserResponse getUserByUsername(@PathVariable("username-or-email") String usernameOrEmail, Authentication authentication) {
+    public UserResponse getUserByUsername(@PathVariable("username-or-email") String usernameOrEmail) {
         var user = mapper.createUserResponseFromUser(userService.getUserByUsernameOrEmail(usernameOrEmail));
-        log.info("=== GET-USER-USERNAME-EMAIL === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return user;
     }
@@ -97,13 +176,12 @@ public class UserController {
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     @ResponseStatus(HttpStatus.CREATED)
-    public UserResponse createAdmin(@RequestBody @Valid UserCreateRequest createRequest, Authentication authentication) {
+    public UserResponse createAdmin(@RequestBody @Valid UserCreateRequest createRequest) {
         var created = mapper.createUserResponseFromUser(
                 userService.create(
                         mapper.createUserFromUserCreateRequest(createRequest), roleService.readByName("ADMIN")
                 )
         );
-        log.info("=== POST-USER-ADMIN === admin - {}", authentication.getPrincipal());
 
         return created;
     }
@@ -111,23 +189,20 @@ public class UserController {
     @PostMapping("/custom-role")
     @PreAuthorize("hasRole('ADMIN')")
     @ResponseStatus(HttpStatus.CREATED)
-    public UserResponse createUserWithCustomRole(@RequestBody @Valid UserCreateRequestWithRole createRequestWithRole, Authentication authentication) {
+    public UserResponse createUserWithCustomRole(@RequestBody @Valid UserCreateRequestWithRole createRequestWithRole) {
         var created = mapper.createUserResponseFromUser(
                 userService.create(
                         mapper.createUserFromUserCreateRequestWithRole(createRequestWithRole), roleService.readByName(createRequestWithRole.getRole())
                 )
         );
-        log.info("=== POST-USER-CUSTOM_ROLE === admin - {}", authentication.getPrincipal());
 
         return created;
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("@authUserService.isAuthAndUserAndUserRequestSame(#id, #requestWithId.id, authentication.principal)")
-    public UserResponse updateFullUserById(@PathVariable long id, @RequestBody @Valid UserUpdateRequest requestWithId,
-                                           Authentication authentication) {
+    public UserResponse updateFullUserById(@PathVariable long id, @RequestBody @Valid UserUpdateRequest requestWithId) {
         var updated = userService.update(mapper.createUserFromUserUpdateRequestById(requestWithId), requestWithId.getOldPassword());
-        log.info("=== PUT-USER-ID === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return mapper.createUserResponseFromUser(updated);
     }
@@ -135,9 +210,8 @@ public class UserController {
     @PutMapping("/username/{username}")
     @PreAuthorize("@authUserService.isAuthAndUserAndUserRequestByUsernameSame(#username, #requestByUsername.username, authentication.principal)")
     public UserResponse updateFullUserByUsername(@PathVariable String username,
-                                                 @RequestBody @Valid UserUpdateRequest requestByUsername, Authentication authentication) {
+                                                 @RequestBody @Valid UserUpdateRequest requestByUsername) {
         var updated = userService.update(mapper.createUserFromUserUpdateRequestByUsername(requestByUsername), requestByUsername.getOldPassword());
-        log.info("=== PUT-USER-USERNAME === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return mapper.createUserResponseFromUser(updated);
     }
@@ -145,19 +219,16 @@ public class UserController {
     @PutMapping("/email/{email}")
     @PreAuthorize("@authUserService.isAuthAndUserAndUserRequestByEmailSame(#email, #requestByEmail.email, authentication.principal)")
     public UserResponse updateFullUserByEmail(@PathVariable String email,
-                                              @RequestBody @Valid UserUpdateRequest requestByEmail, Authentication authentication) {
+                                              @RequestBody @Valid UserUpdateRequest requestByEmail) {
         var updated = userService.update(mapper.createUserFromUserUpdateRequestByEmail(requestByEmail), requestByEmail.getOldPassword());
-        log.info("=== PUT-USER-EMAIL === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return mapper.createUserResponseFromUser(updated);
     }
 
     @PutMapping("/name/{id}")
     @PreAuthorize("@authUserService.isAuthAndUserSame(#id, authentication.principal)")
-    public UserResponse updateUserNamesById(@PathVariable long id, @RequestBody @Valid UserUpdateNamesRequest namesRequest,
-                                            Authentication authentication) {
+    public UserResponse updateUserNamesById(@PathVariable long id, @RequestBody @Valid UserUpdateNamesRequest namesRequest) {
         var updated = mapper.createUserResponseFromUser(userService.updateNamesById(id, namesRequest.getFirstName(), namesRequest.getLastName()));
-        log.info("=== PUT-USER-NAMES-ID === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return updated;
     }
@@ -165,19 +236,16 @@ public class UserController {
     @PutMapping("/name/username-email/{username-or-email}")
     @PreAuthorize("@authUserService.isAuthAndUserSameByUsernameOrEmail(#usernameOrEmail, authentication.principal)")
     public UserResponse updateUserNamesByUsername(@PathVariable("username-or-email") String usernameOrEmail,
-                                                  @RequestBody @Valid UserUpdateNamesRequest namesRequest, Authentication authentication) {
+                                                  @RequestBody @Valid UserUpdateNamesRequest namesRequest) {
         var updated = mapper.createUserResponseFromUser(userService.updateNamesByUsernameOrEmail(usernameOrEmail, namesRequest.getFirstName(), namesRequest.getLastName()));
-        log.info("=== PUT-USER-NAMES-USERNAME-EMAIL === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return updated;
     }
 
     @PutMapping("/password/{id}")
     @PreAuthorize("@authUserService.isAuthAndUserSameWithoutAdmin(#id, authentication.principal)")
-    public ResponseEntity<String> updateUserPasswordById(@PathVariable long id, @RequestBody @Valid UserUpdatePasswordRequest passwordRequest,
-                                                         Authentication authentication) {
+    public ResponseEntity<String> updateUserPasswordById(@PathVariable long id, @RequestBody @Valid UserUpdatePasswordRequest passwordRequest) {
         var user = userService.updatePasswordById(id, passwordRequest.getOldPassword(), passwordRequest.getNewPassword());
-        log.info("=== PUT-USER-PASSWORD-ID === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return ResponseEntity.ok("User " + user.getName() + " successfully update his/her password!");
     }
@@ -185,30 +253,52 @@ public class UserController {
     @PutMapping("/password/username-email/{username-or-email}")
     @PreAuthorize("@authUserService.isUserSameByUsernameOrEmail(#usernameOrEmail, authentication.principal)")
     public ResponseEntity<String> updateUserPasswordByUsername(@PathVariable("username-or-email") String usernameOrEmail,
-                                                               @RequestBody @Valid UserUpdatePasswordRequest passwordRequest, Authentication authentication) {
+                                                               @RequestBody @Valid UserUpdatePasswordRequest passwordRequest) {
         var user = userService.updatePasswordByUsernameOrEmail(usernameOrEmail, passwordRequest.getOldPassword(), passwordRequest.getNewPassword());
-        log.info("=== PUT-USER-PASSWORD-USERNAME-EMAIL === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return ResponseEntity.ok("User " + user.getName() + " successfully update his/her password!");
     }
 
     @DeleteMapping("/{id}")
     @PreAuthorize("@authUserService.isAuthAndUserSame(#id, authentication.principal)")
-    public ResponseEntity<String> deleteUserById(@PathVariable long id, Authentication authentication) {
+    public ResponseEntity<String> deleteUserById(@PathVariable long id) {
         var user = userService.readById(id);
         userService.delete(id);
-        log.info("=== DELETE-USER-ID === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return ResponseEntity.ok("User with name " + user.getName() + " successfully deleted!");
     }
 
     @DeleteMapping("/username-email/{username-or-email}")
     @PreAuthorize("@authUserService.isAuthAndUserSameByUsernameOrEmail(#usernameOrEmail, authentication.principal)")
-    public ResponseEntity<String> deleteUserByUsername(@PathVariable("username-or-email") String usernameOrEmail, Authentication authentication) {
+    public ResponseEntity<String> deleteUserByUsername(@PathVariable("username-or-email") String usernameOrEmail) {
         var user = userService.getUserByUsernameOrEmail(usernameOrEmail);
         userService.delete(usernameOrEmail);
-        log.info("=== DELETE-USER-USERNAME-EMAIL === {} - {}", getRole(authentication), authentication.getPrincipal());
 
         return ResponseEntity.ok("User with name " + user.getName() + " successfully deleted!");
     }
+
+    /**
+     * The deleted user cannot sign in any more, so only an admin follows the purge of the user's content.
+     */
+    @GetMapping("/{id}/deletion")
+    @PreAuthorize("hasRole('ADMIN')")
+    public DeletionProgressResponse getDeletionProgress(@PathVariable long id) {
+        var job = userDeletionService.findJob(id)
+                .orElseThrow(() -> new NotFoundException("No deletion of user with id " + id + " found!"));
+
+        return toDeletionProgressResponse(job);
+    }
+
+    private DeletionProgressResponse toDeletionProgressResponse(DeletionJob job) {
+        return DeletionProgressResponse.builder()
+                .userId(job.getUserId())
+                .state(job.getState().name())
+                .step(job.getStep())
+                .rows(job.getRows().get())
+                .messages(job.getMessages().get())
+                .objects(job.getObjects().get())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
 }
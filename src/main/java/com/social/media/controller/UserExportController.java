@@ -0,0 +1,79 @@
+package com.social.media.controller;
+
+import com.social.media.component.AsyncTimeouts;
+import com.social.media.exception.NotFoundException;
+import com.social.media.model.dto.user.ExportProgressResponse;
+import com.social.media.service.ExportJob;
+import com.social.media.service.UserExportService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.Callable;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/users/{id}/export")
+public class UserExportController {
+    private static final MediaType APPLICATION_ZIP = MediaType.parseMediaType("application/zip");
+
+    private final UserExportService exportService;
+    private final AsyncTimeouts asyncTimeouts;
+
+    /**
+     * The slot is taken before the response starts, so a busy server still answers 503 instead of a broken archive.
+     * Whatever ends the request, the body having run or not, the job is aborted then. A body that never started
+     * leaves its slot to the abort, a running one stops and gives it back when it is done.
+     */
+    @GetMapping(produces = "application/zip")
+    @PreAuthorize("@authUserService.isAuthAndUserSame(#id, authentication.principal)")
+    public ResponseEntity<StreamingResponseBody> exportUser(@PathVariable long id, NativeWebRequest request) {
+        var job = exportService.start(id);
+        asyncTimeouts.applyExport(request);
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(job, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                exportService.abort(job);
+            }
+        });
+        StreamingResponseBody body = output -> exportService.write(job, output);
+
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_ZIP)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("user-" + id + "-export.zip")
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @GetMapping("/progress")
+    @PreAuthorize("@authUserService.isAuthAndUserSame(#id, authentication.principal)")
+    public ExportProgressResponse getExportProgress(@PathVariable long id) {
+        var job = exportService.findJob(id)
+                .orElseThrow(() -> new NotFoundException("No data export of user with id " + id + " found!"));
+
+        return toResponse(job);
+    }
+
+    private ExportProgressResponse toResponse(ExportJob job) {
+        return ExportProgressResponse.builder()
+                .userId(job.getUserId())
+                .state(job.getState().name())
+                .section(job.getSection())
+                .entries(job.getEntries().get())
+                .bytes(job.getBytes().get())
+                .missingPhotos(job.getMissingPhotos().get())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.social.media.exception;
+
+/**
+ * Expected business rule violations that end as a 4xx response. They are part of the normal request flow
+ * and never logged with a trace, so they skip filling in the stack trace and suppression.
+ */
+public class DomainException extends RuntimeException {
+    public DomainException() {
+        this(null);
+    }
+
+    public DomainException(String message) {
+        super(message, null, false, false);
+    }
+}
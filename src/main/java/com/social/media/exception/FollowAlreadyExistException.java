@@ -0,0 +1,10 @@
+package com.social.media.exception;
+
+public class FollowAlreadyExistException extends DomainException {
+    public FollowAlreadyExistException() {
+    }
+
+    public FollowAlreadyExistException(String message) {
+        super(message);
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
@@ -49,7 +50,8 @@ public class GlobalExceptionHandler {
         return getErrorResponse(request, HttpStatus.UNAUTHORIZED, ex.getMessage());
     }
 
-    @ExceptionHandler({AccessDeniedException.class, LikeAlreadyExistException.class})
+    @ExceptionHandler({AccessDeniedException.class, LikeAlreadyExistException.class, FollowAlreadyExistException.class,
+            MessengerAlreadyExistException.class})
     public ResponseEntity<ErrorResponse> handleAccessDeniedException(HttpServletRequest request, RuntimeException ex) {
         return getErrorResponse(request, HttpStatus.FORBIDDEN, ex.getMessage());
     }
@@ -69,13 +71,28 @@ public class GlobalExceptionHandler {
         return getErrorResponse(request, HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
     }
 
+    @ExceptionHandler(ServerBusyException.class)
+    public ResponseEntity<ErrorResponse> handleServerBusyException(HttpServletRequest request, ServerBusyException ex) {
+        var response = getErrorResponse(request, HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(HttpServletRequest request, Exception ex) {
         return getErrorResponse(request, HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
     }
 
+    /**
+     * Client errors are already in the access log with their status, only server errors are logged here.
+     */
     private ResponseEntity<ErrorResponse> getErrorResponse(HttpServletRequest request, HttpStatusCode httpStatus, String message) {
-        log.error("Exception raised = {} :: URL = {}", message, request.getRequestURL());
+        if (httpStatus.is5xxServerError()) {
+            log.error("Exception raised = {} :: URL = {}", message, request.getRequestURI());
+        } else {
+            log.debug("Exception raised = {} :: URL = {}", message, request.getRequestURI());
+        }
         return ResponseEntity.status(httpStatus)
                 .body(new ErrorResponse(
                                 LocalDateTime.now(),
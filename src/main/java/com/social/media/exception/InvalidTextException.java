@@ -1,6 +1,6 @@
 package com.social.media.exception;
 
-public class InvalidTextException extends RuntimeException {
+public class InvalidTextException extends DomainException {
     public InvalidTextException() {
     }
 
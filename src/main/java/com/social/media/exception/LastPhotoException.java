@@ -1,6 +1,6 @@
 package com.social.media.exception;
 
-public class LastPhotoException extends RuntimeException{
+public class LastPhotoException extends DomainException {
     public LastPhotoException() {
     }
 
@@ -1,6 +1,6 @@
 package com.social.media.exception;
 
-public class LikeAlreadyExistException extends RuntimeException{
+public class LikeAlreadyExistException extends DomainException {
     public LikeAlreadyExistException() {
     }
 
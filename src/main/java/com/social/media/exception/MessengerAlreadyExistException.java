@@ -0,0 +1,10 @@
+package com.social.media.exception;
+
+public class MessengerAlreadyExistException extends DomainException {
+    public MessengerAlreadyExistException() {
+    }
+
+    public MessengerAlreadyExistException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.social.media.exception;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * {@link EntityNotFoundException} for lookups of missing entities, without a stack trace like {@link DomainException}.
+ */
+public class NotFoundException extends EntityNotFoundException {
+    public NotFoundException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -1,6 +1,6 @@
 package com.social.media.exception;
 
-public class PhotoDoesNotExist extends RuntimeException{
+public class PhotoDoesNotExist extends DomainException {
     public PhotoDoesNotExist() {
     }
 
@@ -1,6 +1,6 @@
 package com.social.media.exception;
 
-public class PhotoInBucketNotFound extends RuntimeException{
+public class PhotoInBucketNotFound extends DomainException {
     public PhotoInBucketNotFound() {
     }
 
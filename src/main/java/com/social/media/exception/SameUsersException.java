@@ -1,6 +1,6 @@
 package com.social.media.exception;
 
-public class SameUsersException extends RuntimeException{
+public class SameUsersException extends DomainException {
     public SameUsersException() {
     }
 
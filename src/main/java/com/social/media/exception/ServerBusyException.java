@@ -0,0 +1,16 @@
+package com.social.media.exception;
+
+/**
+ * Work rejected because a bounded resource is saturated, it ends as a 503 and the client should retry a bit later.
+ * Not a {@link DomainException}, the request broke no business rule, but just as expected under load, so it skips
+ * the stack trace and suppression too.
+ */
+public class ServerBusyException extends RuntimeException {
+    public ServerBusyException() {
+        this(null);
+    }
+
+    public ServerBusyException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,9 @@
+package com.social.media.generator;
+
+/**
+ * Task that fills the databases with data. All seeders are started by {@link DataSeedingRunner} one after another,
+ * in their {@link org.springframework.core.annotation.Order order}.
+ */
+public interface DataSeeder {
+    void seed();
+}
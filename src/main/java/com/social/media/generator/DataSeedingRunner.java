@@ -0,0 +1,71 @@
+package com.social.media.generator;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the active {@link DataSeeder seeders} after the context is started. By default they run on a separate
+ * thread, so seeding never delays the moment the application starts serving requests. The thread is its own, a long
+ * generator run never holds a thread of the shared task executor that {@code @Async} work and async requests use.
+ */
+@Slf4j
+@Component
+public class DataSeedingRunner implements ApplicationRunner {
+    private final List<DataSeeder> seeders;
+    private final ExecutorService executor;
+
+    @Value("${seed.async:true}")
+    private boolean async;
+
+    public DataSeedingRunner(List<DataSeeder> seeders) {
+        this.seeders = seeders;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "data-seeding");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (seeders.isEmpty()) {
+            return;
+        }
+
+        if (async) {
+            executor.execute(this::runSeedersInBackground);
+        } else {
+            seeders.forEach(this::runSeeder);
+        }
+    }
+
+    // not shutdownNow, the generator may close the context from the seeding thread itself
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void runSeedersInBackground() {
+        for (DataSeeder seeder : seeders) {
+            try {
+                runSeeder(seeder);
+            } catch (RuntimeException exception) {
+                log.error("{} failed: {}", seeder.getClass().getSimpleName(), exception.getMessage(), exception);
+            }
+        }
+    }
+
+    private void runSeeder(DataSeeder seeder) {
+        long start = System.currentTimeMillis();
+        seeder.seed();
+        log.info("{} finished in {} ms", seeder.getClass().getSimpleName(), System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,354 @@
+package com.social.media.generator;
+
+import com.social.media.component.TimelineStore;
+import com.social.media.model.entity.Message;
+import com.social.media.model.entity.Role;
+import com.social.media.service.RoleService;
+import com.social.media.service.SearchService;
+import com.social.media.service.UserService;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Fills the databases with a synthetic, reproducible dataset so performance work can be done at realistic scale.
+ * Activity follows a power law: a few users own most posts and a few posts collect most likes and comments.
+ * It runs after the demo data when both profiles are active.
+ * Rows are written through JDBC batches and Mongo bulk inserts, photos are only registered in the DB (not uploaded to MinIO).
+ * Everything derived from the tables (Hibernate caches, timelines, search and autocomplete indexes) is reset afterwards.
+ * <p>
+ * Run with {@code --spring.profiles.active=generator --generator.users=100000 --generator.exit-on-finish=true}.
+ */
+@Slf4j
+@Order(2)
+@Component
+@Profile("generator")
+@RequiredArgsConstructor
+public class DatasetGenerator implements DataSeeder {
+    private static final String[] FIRST_NAMES = {"Olivia", "Liam", "Emma", "Noah", "Amelia", "Oliver", "Sophia",
+            "Elijah", "Mia", "James", "Harper", "Lucas", "Evelyn", "Mateo", "Anna-Maria", "Taras", "Oksana"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Brown", "Jones", "Garcia", "Miller", "Davis",
+            "Wilson", "Taylor", "Thomas", "Moore", "Shevchenko", "Kovalenko", "Bondarenko", "Smith-Jones"};
+    private static final String[] PHOTOS = {"photos/nature-photography.webp", "photos/catshark.webp",
+            "photos/small_cat.jpg", "photos/mcLaren.jpg", "photos/bmwi4.jpg", "photos/girl.webp", "photos/green.jpg"};
+    private static final String[] TEXTS = {"Nice photo", "Ohh, it`s so cute...", "I like it!", "Woooow, it`s amazing!!",
+            "Are you crazy!?", "Looking good", "Where is it?", "Hi, how are you?", "I`m fine and you?", "See you soon"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MongoTemplate mongoTemplate;
+    private final RoleService roleService;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+    private final TimelineStore timelineStore;
+    private final EntityManagerFactory entityManagerFactory;
+    private final SearchService searchService;
+    private final UserService userService;
+
+    @Value("${generator.users:1000}")
+    private int users;
+
+    @Value("${generator.posts-per-user:5}")
+    private int postsPerUser;
+
+    @Value("${generator.max-likes-per-post:0}")
+    private int maxLikesPerPost;
+
+    @Value("${generator.max-comments-per-post:200}")
+    private int maxCommentsPerPost;
+
+    @Value("${generator.max-follows-per-user:50}")
+    private int maxFollowsPerUser;
+
+    @Value("${generator.conversations:500}")
+    private int conversations;
+
+    @Value("${generator.messages-per-conversation:20}")
+    private int messagesPerConversation;
+
+    @Value("${generator.alpha:2.1}")
+    private double alpha;
+
+    @Value("${generator.days:90}")
+    private int days;
+
+    @Value("${generator.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${generator.seed:42}")
+    private long seed;
+
+    @Value("${generator.password:password}")
+    private String password;
+
+    @Value("${generator.exit-on-finish:false}")
+    private boolean exitOnFinish;
+
+    // users are picked by index and follow or message someone other than themselves, so one user is not enough
+    @PostConstruct
+    private void validate() {
+        if (users < 2) {
+            throw new IllegalStateException("generator.users must be bigger than 1, but was " + users);
+        }
+    }
+
+    @Override
+    public void seed() {
+        generate();
+
+        if (exitOnFinish) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    public void generate() {
+        long start = System.currentTimeMillis();
+        var random = new Random(seed);
+        var sampler = new PowerLawSampler(random, alpha);
+        int likesLimit = maxLikesPerPost > 0 ? Math.min(maxLikesPerPost, users / 2) : users / 2;
+
+        long firstUserId = nextId("users");
+        long firstPostId = nextId("posts");
+        long firstPhotoId = nextId("photos");
+        long firstLikeId = nextId("likes");
+        long firstCommentId = nextId("comments");
+        long firstMessengerId = nextId("messengers");
+        long firstFollowId = nextId("follows");
+
+        long[] userIds = generateUsers(firstUserId);
+        long[] counts = generatePosts(random, sampler, userIds, firstPostId, firstPhotoId, firstLikeId, firstCommentId, likesLimit);
+        long follows = generateFollows(random, sampler, userIds, firstFollowId);
+        long messengers = generateConversations(random, sampler, userIds, firstMessengerId);
+
+        restartIdentity("users", firstUserId + users);
+        restartIdentity("posts", firstPostId + counts[0]);
+        restartIdentity("photos", firstPhotoId + counts[0]);
+        restartIdentity("likes", firstLikeId + counts[1]);
+        restartIdentity("comments", firstCommentId + counts[2]);
+        restartIdentity("messengers", firstMessengerId + messengers);
+        restartIdentity("follows", firstFollowId + follows);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        timelineStore.clear();
+        searchService.rebuild();
+        userService.rebuildAutocomplete();
+
+        log.info("Generated {} users, {} posts, {} likes, {} comments, {} follows, {} messengers, {} messages in {} ms",
+                users, counts[0], counts[1], counts[2], follows, messengers, messengers / 2 * messagesPerConversation,
+                System.currentTimeMillis() - start);
+    }
+
+    private long[] generateUsers(long firstUserId) {
+        Role role = getUserRole();
+        String encodedPassword = passwordEncoder.encode(password);
+
+        var batch = new Batch("insert into users (id, username, first_name, last_name, email, password, role_id) " +
+                "values (?, ?, ?, ?, ?, ?, ?)");
+        long[] userIds = new long[users];
+        for (int i = 0; i < users; i++) {
+            long id = firstUserId + i;
+            userIds[i] = id;
+            batch.add(id, "gen." + id, FIRST_NAMES[i % FIRST_NAMES.length], LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length],
+                    "gen." + id + "@mail.co", encodedPassword, role.getId());
+        }
+        batch.flush();
+
+        return userIds;
+    }
+
+    private long[] generatePosts(Random random, PowerLawSampler sampler, long[] userIds, long postId, long photoId,
+                                 long likeId, long commentId, int likesLimit) {
+        var posts = new Batch("insert into posts (id, owner_id, timestamp, description) values (?, ?, ?, ?)");
+        var photos = new Batch("insert into photos (id, post_id, file) values (?, ?, ?)", posts);
+        var likes = new Batch("insert into likes (id, owner_id, post_id) values (?, ?, ?)", posts);
+        var comments = new Batch("insert into comments (id, owner_id, post_id, timestamp, comment) values (?, ?, ?, ?, ?)", posts);
+
+        byte[][] files = Arrays.stream(PHOTOS).map(path -> serialize(new File(path))).toArray(byte[][]::new);
+        long totalPosts = (long) users * postsPerUser;
+        long likesCount = 0;
+        long commentsCount = 0;
+        var now = LocalDateTime.now();
+
+        for (long i = 0; i < totalPosts; i++, postId++) {
+            long ownerId = userIds[sampler.nextIndex(users)];
+            var timestamp = now.minusMinutes(random.nextInt(Math.max(1, days * 24 * 60)));
+
+            posts.add(postId, ownerId, Timestamp.valueOf(timestamp), TEXTS[random.nextInt(TEXTS.length)]);
+            photos.add(photoId++, postId, files[random.nextInt(files.length)]);
+
+            for (long likerId : distinctUsers(random, userIds, sampler.next(likesLimit))) {
+                likes.add(likeId++, likerId, postId);
+                likesCount++;
+            }
+
+            int postComments = sampler.next(maxCommentsPerPost);
+            for (int c = 0; c < postComments; c++) {
+                comments.add(commentId++, userIds[random.nextInt(users)], postId,
+                        Timestamp.valueOf(timestamp.plusMinutes(c + 1L)), TEXTS[random.nextInt(TEXTS.length)]);
+                commentsCount++;
+            }
+        }
+        posts.flush();
+        photos.flush();
+        likes.flush();
+        comments.flush();
+
+        return new long[]{totalPosts, likesCount, commentsCount};
+    }
+
+    // half of the follows go to popular (low index) users, the same users that own most posts, the rest is uniform
+    private long generateFollows(Random random, PowerLawSampler sampler, long[] userIds, long followId) {
+        var follows = new Batch("insert into follows (id, follower_id, followed_id) values (?, ?, ?)");
+        long firstFollowId = followId;
+
+        for (long followerId : userIds) {
+            int count = Math.min(sampler.next(maxFollowsPerUser), users - 1);
+            var followed = new HashSet<Long>(count * 2);
+            while (followed.size() < count) {
+                long followedId = userIds[random.nextBoolean() ? sampler.nextIndex(users) : random.nextInt(users)];
+                if (followedId != followerId && followed.add(followedId)) {
+                    follows.add(followId++, followerId, followedId);
+                }
+            }
+        }
+        follows.flush();
+
+        return followId - firstFollowId;
+    }
+
+    private long generateConversations(Random random, PowerLawSampler sampler, long[] userIds, long messengerId) {
+        var messengers = new Batch("insert into messengers (id, owner_id, recipient_id) values (?, ?, ?)");
+        var messages = new ArrayList<Message>(batchSize);
+        var pairs = new HashSet<Long>();
+        long maxPairs = (long) users * (users - 1) / 2;
+        long firstMessengerId = messengerId;
+        var now = LocalDateTime.now();
+
+        while (pairs.size() < Math.min(conversations, maxPairs)) {
+            long owner = userIds[sampler.nextIndex(users)];
+            long recipient = userIds[random.nextInt(users)];
+            if (owner == recipient || !pairs.add(Math.min(owner, recipient) << 32 | Math.max(owner, recipient))) {
+                continue;
+            }
+
+            long ownerMessengerId = messengerId++;
+            long recipientMessengerId = messengerId++;
+            messengers.add(ownerMessengerId, owner, recipient);
+            messengers.add(recipientMessengerId, recipient, owner);
+
+            var timestamp = now.minusMinutes(random.nextInt(Math.max(1, days * 24 * 60)));
+            for (int m = 0; m < messagesPerConversation; m++) {
+                boolean fromOwner = random.nextBoolean();
+                var message = new Message();
+                message.setMessage(TEXTS[random.nextInt(TEXTS.length)]);
+                message.setOwnerId(fromOwner ? owner : recipient);
+                message.setMessengerId(fromOwner ? ownerMessengerId : recipientMessengerId);
+                message.setTimestamp(timestamp.plusSeconds(m * 30L));
+                messages.add(message);
+
+                if (messages.size() >= batchSize) {
+                    mongoTemplate.insert(messages, Message.class);
+                    messages.clear();
+                }
+            }
+        }
+        messengers.flush();
+        if (!messages.isEmpty()) {
+            mongoTemplate.insert(messages, Message.class);
+        }
+
+        return messengerId - firstMessengerId;
+    }
+
+    private Collection<Long> distinctUsers(Random random, long[] userIds, int count) {
+        var picked = new HashSet<Long>(count * 2);
+        while (picked.size() < count) {
+            picked.add(userIds[random.nextInt(userIds.length)]);
+        }
+        return picked;
+    }
+
+    private Role getUserRole() {
+        return roleService.findByName("USER").orElseGet(() -> roleService.create("USER"));
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    private void restartIdentity(String table, long nextId) {
+        if (isH2()) {
+            jdbcTemplate.execute("alter table " + table + " alter column id restart with " + nextId);
+        } else {
+            jdbcTemplate.execute("alter table " + table + " auto_increment = " + nextId);
+        }
+    }
+
+    private boolean isH2() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                connection.getMetaData().getDatabaseProductName().equalsIgnoreCase("H2")));
+    }
+
+    private static byte[] serialize(File file) {
+        try (var bytes = new ByteArrayOutputStream(); var output = new ObjectOutputStream(bytes)) {
+            output.writeObject(file);
+            output.flush();
+            return bytes.toByteArray();
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    private class Batch {
+        private final String sql;
+        private final Batch parent;
+        private final List<Object[]> rows = new ArrayList<>(batchSize);
+
+        private Batch(String sql) {
+            this(sql, null);
+        }
+
+        // rows of the parent batch are flushed first, so foreign keys always point to existing rows
+        private Batch(String sql, Batch parent) {
+            this.sql = sql;
+            this.parent = parent;
+        }
+
+        private void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (parent != null) {
+                parent.flush();
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+}
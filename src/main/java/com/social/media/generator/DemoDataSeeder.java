@@ -0,0 +1,166 @@
+package com.social.media.generator;
+
+import com.social.media.model.entity.Role;
+import com.social.media.model.entity.User;
+import com.social.media.repository.RoleRepository;
+import com.social.media.repository.UserRepository;
+import com.social.media.service.*;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Demo users with their posts, comments, likes and messages. Enabled by the 'seed' profile and skipped when
+ * the demo admin already exists, so restarts against a persistent database do not duplicate anything.
+ */
+@Slf4j
+@Order(1)
+@Component
+@Profile("seed")
+@AllArgsConstructor
+public class DemoDataSeeder implements DataSeeder {
+    private static final String ADMIN_USERNAME = "skallet24";
+
+    private final UserService userService;
+    private final PostService postService;
+    private final RoleService roleService;
+    private final CommentService commentService;
+    private final LikeService likeService;
+    private final MessengerService messengerService;
+    private final MessageService messageService;
+    private final RoleRepository roleRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    public void seed() {
+        Role admin = createRole("ADMIN");
+        Role user = createRole("USER");
+
+        if (userRepository.findByUsername(ADMIN_USERNAME).isPresent()) {
+            log.info("Demo data already exists, seeding is skipped.");
+            return;
+        }
+
+        creatingUsers(admin, user);
+    }
+
+    private void creatingUsers(Role admin, Role userRole) {
+//      USERS
+        long adminId = createUser("Garry", "Jones", ADMIN_USERNAME, "jone@mail.co", "1111", admin);
+        long garryId = createUser("Garry", "Thomas", "garry.potter", "garry@mail.co", "2222", userRole);
+        long oliviaId = createUser("Olivia", "Jones", "oil", "olivia@mail.co", "3333", userRole);
+
+//      POSTS
+        long post1Id = createPost(adminId, "My first photo", List.of("photos/nature-photography.webp"));
+        long post2Id = createPost(oliviaId, "My caaaat`s♡♡♡", List.of("photos/catshark.webp", "photos/small_cat.jpg"));
+        long post3Id = createPost(garryId, "Machines that I want", List.of("photos/mcLaren.jpg", "photos/bmwi4.jpg"));
+        long post4Id = createPost(adminId, "Look which girl I have been drown", List.of("photos/girl.webp"));
+        long post5Id = createPost(garryId, "I really like green color☺☺☺", List.of("photos/green.jpg"));
+
+//      COMMENTS
+        createComment(garryId, post1Id, "Nice photo");
+
+        createComment(garryId, post2Id, "Ohh, it`s so cute...");
+        createComment(adminId, post2Id, "I like cats!");
+
+        createComment(garryId, post3Id, "I have no comments");
+
+        createComment(garryId, post4Id, "Woooow, it`s amazing!!");
+        createComment(oliviaId, post4Id, "Are you crazy!?");
+
+        createComment(oliviaId, post5Id, "Looking like a grass㋛");
+
+//      LIKES
+        createLike(oliviaId, post1Id);
+
+        createLike(oliviaId, post2Id);
+        createLike(garryId, post2Id);
+        createLike(adminId, post2Id);
+
+        createLike(adminId, post3Id);
+        createLike(garryId, post3Id);
+        createLike(oliviaId, post3Id);
+
+        createLike(garryId, post4Id);
+        createLike(oliviaId, post4Id);
+
+        createLike(adminId, post5Id);
+        createLike(garryId, post5Id);
+
+//      MESSENGERS
+        long adminWithGarryMessengerId = createMessenger(adminId, garryId);
+        long garryWithOliviaMessengerId = createMessenger(garryId, oliviaId);
+        long oliviaWithAdminMessengerId = createMessenger(oliviaId, adminId);
+
+        long garryWithAdminMessengerId = messengerService.readByOwnerAndRecipient(garryId, adminId).getId();
+        long oliviaWithGarryMessengerId = messengerService.readByOwnerAndRecipient(oliviaId, garryId).getId();
+        long adminWithOliviaMessengerId = messengerService.readByOwnerAndRecipient(adminId, oliviaId).getId();
+
+//      MESSAGES
+        createMessage(adminWithGarryMessengerId, adminId, "Hi, how are you?");
+        createMessage(garryWithAdminMessengerId, garryId, "Hi, I`m fine and you?");
+        createMessage(adminWithGarryMessengerId, adminId, "Nice, thanks.");
+
+        createMessage(garryWithOliviaMessengerId, garryId, "Wow, I like that new Social Media, and you?");
+        createMessage(oliviaWithGarryMessengerId, oliviaId, "I like it, too)))");
+
+        createMessage(oliviaWithAdminMessengerId, oliviaId, "Today, I will go to the hospital, can you lift me?");
+        createMessage(adminWithOliviaMessengerId, adminId, "Of course, tell me what time please.");
+        createMessage(oliviaWithAdminMessengerId, oliviaId, "At 15.00");
+    }
+
+    private Role createRole(String name) {
+        var existing = roleRepository.findByName(name);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        var created = roleService.create(name);
+        log.info("Role with name {} was created!", name);
+        return created;
+    }
+
+    private long createUser(String firstName, String lastName, String username, String email, String password, Role role) {
+        User user = new User();
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword(password);
+
+        var created = userService.create(user, role);
+        log.info("User {} successfully created", created.getName());
+        return created.getId();
+    }
+
+    private long createPost(long ownerId, String description, List<String> photoFile) {
+        var created = postService.create(ownerId, description, photoFile);
+        log.info("{} posted photo with description {}", created.getOwner().getName(), created.getDescription());
+        return created.getId();
+    }
+
+    private void createComment(long ownerId, long postId, String comment) {
+        var created = commentService.create(ownerId, postId, comment);
+        log.info("{} post has been successfully commented by {}", created.getPost().getOwner().getName(), created.getOwner().getName());
+    }
+
+    private void createLike(long ownerId, long postId) {
+        var created = likeService.create(ownerId, postId);
+        log.info("{} post has been successfully liked by {}", created.getPost().getOwner().getName(), created.getOwner().getName());
+    }
+
+    private long createMessenger(long ownerId, long recipientId) {
+        var created = messengerService.create(ownerId, recipientId);
+        log.info("Messenger between {} and {} has been created.", created.getOwner().getName(), created.getRecipient().getName());
+        return created.getId();
+    }
+
+    private void createMessage(long messengerId, long ownerId, String message) {
+        var created = messageService.create(messengerId, ownerId, message);
+        log.info("Message for {} has been created", messengerService.readById(created.getMessengerId()));
+    }
+}
@@ -0,0 +1,38 @@
+package com.social.media.generator;
+
+import java.util.Random;
+
+/**
+ * Draws integers from a truncated discrete power-law (Pareto) distribution: most draws are small,
+ * a few are very large, which is how likes, comments and activity spread across real users and posts.
+ */
+public class PowerLawSampler {
+    private final Random random;
+    private final double exponent;
+
+    public PowerLawSampler(Random random, double alpha) {
+        if (alpha <= 1.0) {
+            throw new IllegalArgumentException("Power-law exponent must be bigger than 1, but was " + alpha);
+        }
+        this.random = random;
+        this.exponent = -1.0 / (alpha - 1.0);
+    }
+
+    /**
+     * @return value in range [0, max]
+     */
+    public int next(int max) {
+        if (max <= 0) {
+            return 0;
+        }
+        double value = Math.pow(1.0 - random.nextDouble(), exponent) - 1.0;
+        return (int) Math.min(max, Math.floor(value));
+    }
+
+    /**
+     * @return index in range [0, size), where small indexes are picked much more often than big ones
+     */
+    public int nextIndex(int size) {
+        return next(size - 1);
+    }
+}
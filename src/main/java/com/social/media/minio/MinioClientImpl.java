@@ -2,14 +2,19 @@ package com.social.media.minio;
 
 import com.social.media.exception.BucketCreationException;
 import com.social.media.exception.ConnectionToMinIOFailed;
+import com.social.media.exception.NotFoundException;
+import com.social.media.exception.PhotoInBucketNotFound;
+import io.micrometer.observation.annotation.Observed;
 import io.minio.*;
 import io.minio.errors.*;
 import io.minio.messages.Bucket;
-import jakarta.persistence.EntityNotFoundException;
+import io.minio.messages.DeleteObject;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -17,11 +22,24 @@ import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.LongConsumer;
 
 @Slf4j
 @Component
+@Observed(name = "minio.client")
 public class MinioClientImpl {
-    private static final MinioClient minioClient = getMinioClient();
+    private static final int MAX_OBJECTS_PER_DELETE = 1000;
+
+    private final MinioClient minioClient;
+
+    public MinioClientImpl(@Value("${minio.endpoint}") String endpoint,
+                           @Value("${minio.access-key}") String accessKey,
+                           @Value("${minio.secret-key}") String secretKey) {
+        this.minioClient = MinioClient.builder()
+                .endpoint(endpoint)
+                .credentials(accessKey, secretKey)
+                .build();
+    }
 
     public void makeBucketWithUsername(String username) throws ServerException,
             InsufficientDataException, InvalidResponseException, XmlParserException, InternalException {
@@ -66,6 +84,91 @@ public class MinioClientImpl {
         }
     }
 
+    /**
+     * Streams the object instead of downloading it to a file, the caller copies it on and closes it.
+     *
+     * @throws PhotoInBucketNotFound when the bucket or the object does not exist
+     */
+    public InputStream openPhoto(String username, String fileName) throws IOException {
+        try {
+            return minioClient.getObject(
+                    GetObjectArgs
+                            .builder()
+                            .bucket(username)
+                            .object(fileName)
+                            .build()
+            );
+        } catch (ErrorResponseException responseException) {
+            var code = responseException.errorResponse().code();
+            if ("NoSuchKey".equals(code) || "NoSuchBucket".equals(code)) {
+                throw new PhotoInBucketNotFound("Photo " + fileName + " not found in bucket " + username);
+            }
+            throw new ConnectionToMinIOFailed("Connection failed: " + responseException.getMessage());
+        } catch (MinioException | InvalidKeyException | NoSuchAlgorithmException exception) {
+            throw new ConnectionToMinIOFailed("Connection failed: " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Removes every object of the bucket, listed page by page and deleted with one request per
+     * {@value MAX_OBJECTS_PER_DELETE} objects, and then the bucket itself. A missing bucket counts as removed.
+     *
+     * @param removedObjects gets the number of objects removed by each request
+     */
+    public void removeBucket(String username, LongConsumer removedObjects) {
+        try {
+            if (!minioClient.bucketExists(BucketExistsArgs.builder().bucket(username).build())) {
+                return;
+            }
+
+            var batch = new ArrayList<DeleteObject>(MAX_OBJECTS_PER_DELETE);
+            for (var item : minioClient.listObjects(ListObjectsArgs.builder().bucket(username).recursive(true).build())) {
+                batch.add(new DeleteObject(item.get().objectName()));
+                if (batch.size() == MAX_OBJECTS_PER_DELETE) {
+                    removeObjects(username, batch, removedObjects);
+                }
+            }
+            removeObjects(username, batch, removedObjects);
+
+            minioClient.removeBucket(RemoveBucketArgs.builder().bucket(username).build());
+        } catch (ErrorResponseException responseException) {
+            if (!"NoSuchBucket".equals(responseException.errorResponse().code())) {
+                throw new ConnectionToMinIOFailed("Connection failed: " + responseException.getMessage());
+            }
+        } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException exception) {
+            throw new ConnectionToMinIOFailed("Connection failed: " + exception.getMessage());
+        }
+    }
+
+    public boolean isPhotoExist(String username, String fileName) {
+        try {
+            minioClient.statObject(StatObjectArgs.builder().bucket(username).object(fileName).build());
+            return true;
+        } catch (ErrorResponseException responseException) {
+            var code = responseException.errorResponse().code();
+            if ("NoSuchKey".equals(code) || "NoSuchBucket".equals(code)) {
+                return false;
+            }
+            throw new ConnectionToMinIOFailed("Connection failed: " + responseException.getMessage());
+        } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException exception) {
+            throw new ConnectionToMinIOFailed("Connection failed: " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Removes the photos with one request, photos that do not exist count as removed.
+     */
+    public void removePhotos(String username, List<String> fileNames) {
+        try {
+            var batch = new ArrayList<DeleteObject>(fileNames.size());
+            fileNames.forEach(fileName -> batch.add(new DeleteObject(fileName)));
+            removeObjects(username, batch, removed -> {
+            });
+        } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException exception) {
+            throw new ConnectionToMinIOFailed("Connection failed: " + exception.getMessage());
+        }
+    }
+
     public boolean isBucketExist(String username) {
         return !getBuckets().isEmpty() && getBuckets()
                 .stream()
@@ -77,7 +180,7 @@ public class MinioClientImpl {
                 .stream()
                 .filter(bucket -> bucket.name().equals(username))
                 .findFirst()
-                .orElseThrow(() -> new EntityNotFoundException("Bucket with name " + username + " not found"));
+                .orElseThrow(() -> new NotFoundException("Bucket with name " + username + " not found"));
     }
 
     public boolean isDirectoryExist(Path path) {
@@ -95,11 +198,22 @@ public class MinioClientImpl {
         return new ArrayList<>();
     }
 
-    private static MinioClient getMinioClient() {
-        return io.minio.MinioClient.builder()
-                .endpoint("https://play.min.io")
-                .credentials("Q3AM3UQ867SPQQA43P2F", "zuf+tfteSlswRu7BJ86wekitnifILbZam1KYY3TG")
-                .build();
+    /**
+     * The request is only sent while the results are iterated, they list the objects that could not be removed.
+     */
+    private void removeObjects(String username, List<DeleteObject> batch, LongConsumer removedObjects) throws IOException,
+            MinioException, InvalidKeyException, NoSuchAlgorithmException {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        var results = minioClient.removeObjects(RemoveObjectsArgs.builder().bucket(username).objects(batch).build());
+        for (var result : results) {
+            var error = result.get();
+            throw new ConnectionToMinIOFailed("Object " + error.objectName() + " could not be removed: " + error.message());
+        }
+        removedObjects.accept(batch.size());
+        batch.clear();
     }
 
     private void creatingFolderForGettingPhoto(Path path) throws IOException {
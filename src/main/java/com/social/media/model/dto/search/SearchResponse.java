@@ -0,0 +1,28 @@
+package com.social.media.model.dto.search;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResponse {
+    @NotNull
+    private String type;
+
+    private long id;
+
+    @JsonProperty("owner_id")
+    private long ownerId;
+
+    @JsonProperty("post_id")
+    private long postId;
+
+    @NotNull
+    private String text;
+}
@@ -0,0 +1,34 @@
+package com.social.media.model.dto.user;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeletionProgressResponse {
+    @JsonProperty("user_id")
+    private long userId;
+
+    private String state;
+
+    private String step;
+
+    private long rows;
+
+    private long messages;
+
+    private long objects;
+
+    @JsonProperty("started_at")
+    private LocalDateTime startedAt;
+
+    @JsonProperty("finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,35 @@
+package com.social.media.model.dto.user;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportProgressResponse {
+    @JsonProperty("user_id")
+    private long userId;
+
+    private String state;
+
+    private String section;
+
+    private long entries;
+
+    private long bytes;
+
+    @JsonProperty("missing_photos")
+    private long missingPhotos;
+
+    @JsonProperty("started_at")
+    private LocalDateTime startedAt;
+
+    @JsonProperty("finished_at")
+    private LocalDateTime finishedAt;
+}
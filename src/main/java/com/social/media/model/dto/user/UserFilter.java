@@ -0,0 +1,16 @@
+package com.social.media.model.dto.user;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Criteria of the admin user listings, every {@code null} criterion is left out of the query.
+ *
+ * @param createdFrom inclusive
+ * @param createdTo   exclusive
+ */
+public record UserFilter(String role, String firstName, String lastName,
+                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+}
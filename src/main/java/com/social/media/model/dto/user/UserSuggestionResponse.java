@@ -0,0 +1,27 @@
+package com.social.media.model.dto.user;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSuggestionResponse {
+    private long id;
+
+    @NotNull
+    private String username;
+
+    @NotNull
+    @JsonProperty("first_name")
+    private String firstName;
+
+    @NotNull
+    @JsonProperty("last_name")
+    private String lastName;
+}
@@ -1,6 +1,7 @@
 package com.social.media.model.entity;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.social.media.search.SearchIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -14,7 +15,11 @@ import java.util.Objects;
 @Getter
 @Setter
 @Entity
-@Table(name = "comments")
+@EntityListeners(SearchIndexListener.class)
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_owner_id", columnList = "owner_id"),
+        @Index(name = "idx_comments_post_id_timestamp", columnList = "post_id, timestamp")
+})
 public class Comment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
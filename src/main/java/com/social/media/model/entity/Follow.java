@@ -0,0 +1,52 @@
+package com.social.media.model.entity;
+
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Objects;
+
+@Setter
+@Getter
+@Entity
+@Table(name = "follows",
+        uniqueConstraints = @UniqueConstraint(name = "uk_follows_follower_id_followed_id", columnNames = {"follower_id", "followed_id"}),
+        indexes = @Index(name = "idx_follows_followed_id_follower_id", columnList = "followed_id, follower_id"))
+public class Follow {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @JsonBackReference
+    @JoinColumn(name = "follower_id")
+    @ManyToOne(fetch = FetchType.EAGER)
+    private User follower;
+
+    @JsonBackReference
+    @JoinColumn(name = "followed_id")
+    @ManyToOne(fetch = FetchType.EAGER)
+    private User followed;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Follow follow = (Follow) o;
+        return id == follow.id && Objects.equals(follower, follow.follower) && Objects.equals(followed, follow.followed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, follower, followed);
+    }
+
+    @Override
+    public String toString() {
+        return "Follow{" +
+                "id=" + id +
+                ", follower=" + follower +
+                ", followed=" + followed +
+                '}';
+    }
+}
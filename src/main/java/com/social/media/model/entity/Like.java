@@ -10,7 +10,9 @@ import java.util.Objects;
 @Setter
 @Getter
 @Entity
-@Table(name = "likes")
+@Table(name = "likes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_likes_post_id_owner_id", columnNames = {"post_id", "owner_id"}),
+        indexes = @Index(name = "idx_likes_owner_id", columnList = "owner_id"))
 public class Like {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
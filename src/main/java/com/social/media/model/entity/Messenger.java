@@ -10,7 +10,9 @@ import java.util.Objects;
 @Getter
 @Setter
 @Entity
-@Table(name = "messengers")
+@Table(name = "messengers",
+        uniqueConstraints = @UniqueConstraint(name = "uk_messengers_owner_id_recipient_id", columnNames = {"owner_id", "recipient_id"}),
+        indexes = @Index(name = "idx_messengers_recipient_id", columnList = "recipient_id"))
 public class Messenger {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
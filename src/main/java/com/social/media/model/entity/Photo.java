@@ -12,7 +12,7 @@ import java.util.Objects;
 @Setter
 @Getter
 @Entity
-@Table(name = "photos")
+@Table(name = "photos", indexes = @Index(name = "idx_photos_post_id", columnList = "post_id"))
 public class Photo {
 
     @Id
@@ -2,10 +2,13 @@ package com.social.media.model.entity;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.social.media.search.SearchIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -17,7 +20,10 @@ import java.util.Set;
 @Setter
 @Getter
 @Entity
-@Table(name = "posts")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "posts")
+@EntityListeners(SearchIndexListener.class)
+@Table(name = "posts", indexes = @Index(name = "idx_posts_owner_id_timestamp", columnList = "owner_id, timestamp"))
 public class Post {
 
     @Id
@@ -2,15 +2,23 @@ package com.social.media.model.entity;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.social.media.search.SearchIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.Where;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -19,7 +27,15 @@ import java.util.Set;
 @Getter
 @Setter
 @Entity
-@Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-natural-id")
+@EntityListeners(SearchIndexListener.class)
+@Where(clause = "deleted_at is null")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_role_id", columnList = "role_id"),
+        @Index(name = "idx_users_created_at", columnList = "created_at")
+})
 public class User implements UserDetails {
     public static final String NAME_REGEXP = "[A-Z][a-z]+(-[A-Z][a-z]+){0,1}";
 
@@ -27,6 +43,7 @@ public class User implements UserDetails {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private long id;
 
+    @NaturalId
     @NotNull
     @Pattern(regexp = "^[a-z0-9-.]+$", message = "The 'username' must contains letters in lower case and can contain '-' or '.'")
     @Column(unique = true, nullable = false)
@@ -46,13 +63,23 @@ public class User implements UserDetails {
 
     @NotNull
     @Pattern(regexp = "[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}", message = "Must be a valid e-mail address")
-    @Column(name = "e-mail", nullable = false, unique = true)
+    @Column(nullable = false, unique = true)
     private String email;
 
     @NotBlank(message = "The 'password' cannot be blank!")
     @Column(nullable = false)
     private String password;
 
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Set when the user is deleted, the row itself is removed by the background purge after the user's content.
+     */
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @ManyToOne(fetch = FetchType.EAGER)
     @JsonBackReference
     @JoinColumn(name = "role_id")
@@ -78,6 +105,14 @@ public class User implements UserDetails {
     @OneToMany(mappedBy = "recipient", cascade = CascadeType.ALL)
     private Set<Messenger> messagesToMe;
 
+    @JsonManagedReference
+    @OneToMany(mappedBy = "follower", cascade = CascadeType.ALL)
+    private Set<Follow> myFollowings;
+
+    @JsonManagedReference
+    @OneToMany(mappedBy = "followed", cascade = CascadeType.ALL)
+    private Set<Follow> myFollowers;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -127,7 +162,7 @@ public class User implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return deletedAt == null;
     }
 
     public String getName() {
@@ -0,0 +1,13 @@
+package com.social.media.model.mapper;
+
+import com.social.media.model.dto.search.SearchResponse;
+import com.social.media.search.SearchIndex.Hit;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface SearchMapper {
+
+    @Mapping(target = "type", expression = "java(hit.type().name().toLowerCase())")
+    SearchResponse createSearchResponseFromHit(Hit hit);
+}
@@ -1,5 +1,6 @@
 package com.social.media.model.mapper;
 
+import com.social.media.component.UserAutocompleteIndex.Suggestion;
 import com.social.media.model.dto.user.*;
 import com.social.media.model.entity.User;
 import org.mapstruct.Mapper;
@@ -15,6 +16,8 @@ public interface UserMapper {
     @Mapping(target = "role", expression = "java(user.getRole().getName())")
     UserResponse createUserResponseFromUser(User user);
 
+    UserSuggestionResponse createUserSuggestionResponseFromSuggestion(Suggestion suggestion);
+
     @Mapping(target = "password", source = "newPassword")
     User createUserFromUserUpdateRequestById(UserUpdateRequest requestById);
 
@@ -0,0 +1,41 @@
+package com.social.media.mongo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class MongoConnectionVerifier {
+    private final MongoTemplate mongoTemplate;
+    private final TaskExecutor executor;
+
+    public MongoConnectionVerifier(MongoTemplate mongoTemplate,
+                                   @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) TaskExecutor executor) {
+        this.mongoTemplate = mongoTemplate;
+        this.executor = executor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyInBackground() {
+        executor.execute(this::verify);
+    }
+
+    public boolean verify() {
+        try {
+            mongoTemplate.executeCommand(new Document("ping", 1));
+            log.info("Pinged your deployment. You successfully connected to MongoDB!");
+            return true;
+        } catch (DataAccessException exception) {
+            log.error("Error connecting to MongoDB: {}", exception.getMessage());
+            return false;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.social.media.repository;
 
 import com.social.media.model.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +14,9 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findAllByPostId(long postId);
 
     List<Comment> findAllByOwnerId(long ownerId);
+
+    List<Comment> findAllByOwnerIdAndIdGreaterThanOrderById(long ownerId, long id, Pageable pageable);
+
+    @Query("select c.id from Comment c where c.owner.id = :userId or c.post.owner.id = :userId")
+    List<Long> findIdsByOwnerIdOrPostOwnerId(@Param("userId") long userId, Pageable pageable);
 }
@@ -0,0 +1,41 @@
+package com.social.media.repository;
+
+import com.social.media.model.entity.Follow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FollowRepository extends JpaRepository<Follow, Long> {
+    Optional<Follow> findByFollowerIdAndFollowedId(long followerId, long followedId);
+
+    boolean existsByFollowerIdAndFollowedId(long followerId, long followedId);
+
+    List<Follow> findAllByFollowerId(long followerId);
+
+    List<Follow> findAllByFollowedId(long followedId);
+
+    long countByFollowedId(long followedId);
+
+    @Query("select f.follower.id from Follow f where f.followed.id = :followedId")
+    List<Long> findFollowerIds(@Param("followedId") long followedId);
+
+    @Query("select f.followed.id from Follow f where f.follower.id = :followerId")
+    List<Long> findFollowedIds(@Param("followerId") long followerId);
+
+    @Query("select f.followed.id from Follow f where f.follower.id = :followerId " +
+            "and (select count(g) from Follow g where g.followed = f.followed) < :threshold")
+    List<Long> findFollowedIdsWithFollowersLessThan(@Param("followerId") long followerId, @Param("threshold") long threshold);
+
+    @Query("select f.followed.id from Follow f where f.follower.id = :followerId " +
+            "and (select count(g) from Follow g where g.followed = f.followed) >= :threshold")
+    List<Long> findFollowedIdsWithFollowersAtLeast(@Param("followerId") long followerId, @Param("threshold") long threshold);
+
+    @Query("select f.id from Follow f where f.follower.id = :userId or f.followed.id = :userId")
+    List<Long> findIdsByFollowerIdOrFollowedId(@Param("userId") long userId, Pageable pageable);
+}
@@ -3,7 +3,10 @@ package com.social.media.repository;
 import com.social.media.model.entity.Like;
 import com.social.media.model.entity.Post;
 import com.social.media.model.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,7 +15,14 @@ import java.util.List;
 public interface LikeRepository extends JpaRepository<Like, Long> {
     Like findByOwnerAndPost(User owner, Post post);
 
+    boolean existsByOwnerIdAndPostId(long ownerId, long postId);
+
     List<Like> findAllByPostId(long postId);
 
     List<Like> findAllByOwnerId(long ownerId);
+
+    List<Like> findAllByOwnerIdAndIdGreaterThanOrderById(long ownerId, long id, Pageable pageable);
+
+    @Query("select l.id from Like l where l.owner.id = :userId or l.post.owner.id = :userId")
+    List<Long> findIdsByOwnerIdOrPostOwnerId(@Param("userId") long userId, Pageable pageable);
 }
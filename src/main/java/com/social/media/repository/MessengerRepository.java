@@ -1,7 +1,10 @@
 package com.social.media.repository;
 
 import com.social.media.model.entity.Messenger;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +14,10 @@ import java.util.List;
 public interface MessengerRepository extends JpaRepository<Messenger, Long> {
     Messenger findByOwnerIdAndRecipientId(long ownerId, long recipientId);
     List<Messenger> findAllByOwnerId(long ownerId);
+
+    List<Messenger> findAllByOwnerIdAndIdGreaterThanOrderById(long ownerId, long id, Pageable pageable);
+    boolean existsByOwnerIdAndRecipientId(long ownerId, long recipientId);
+
+    @Query("select m.id from Messenger m where m.owner.id = :userId or m.recipient.id = :userId")
+    List<Long> findIdsByOwnerIdOrRecipientId(@Param("userId") long userId, Pageable pageable);
 }
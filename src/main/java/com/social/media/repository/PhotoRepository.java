@@ -1,10 +1,16 @@
 package com.social.media.repository;
 
 import com.social.media.model.entity.Photo;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface PhotoRepository extends JpaRepository<Photo, Long> {
     List<Photo> findAllByPostId(long postId);
+
+    @Query("select p.id from Photo p where p.post.owner.id = :ownerId")
+    List<Long> findIdsByPostOwnerId(@Param("ownerId") long ownerId, Pageable pageable);
 }
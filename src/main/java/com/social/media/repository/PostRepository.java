@@ -1,9 +1,13 @@
 package com.social.media.repository;
 
 import com.social.media.model.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +16,19 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     List<Post> findAllByOwnerId(long ownerId);
 
     Optional<Post> findByOwnerIdAndId(long ownerId, long id);
+
+    List<Post> findAllByIdGreaterThanOrderById(long id, Pageable pageable);
+
+    List<Post> findAllByOwnerIdAndIdGreaterThanOrderById(long ownerId, long id, Pageable pageable);
+
+    List<Post> findAllByOwnerIdInOrderByTimestampDescIdDesc(Collection<Long> ownerIds, Pageable pageable);
+
+    /**
+     * The inner join drops posts of soft deleted owners, the owner's {@code @Where} is part of the join.
+     */
+    @Query("select count(p) > 0 from Post p join p.owner o where p.id = :id")
+    boolean existsWithActiveOwner(@Param("id") long id);
+
+    @Query("select p.id from Post p where p.owner.id = :ownerId")
+    List<Long> findIdsByOwnerId(@Param("ownerId") long ownerId, Pageable pageable);
 }
@@ -0,0 +1,11 @@
+package com.social.media.repository;
+
+import com.social.media.model.entity.Message;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+public interface ReactiveMessageRepository extends ReactiveMongoRepository<Message, String> {
+    Flux<Message> findAllByMessengerIdInOrderByTimestamp(Collection<Long> messengerIds);
+}
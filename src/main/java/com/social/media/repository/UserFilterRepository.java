@@ -0,0 +1,22 @@
+package com.social.media.repository;
+
+import com.social.media.model.dto.user.UserFilter;
+import com.social.media.model.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface UserFilterRepository {
+    /**
+     * One query with only the criteria that are set, ordered by id, plus its count query when the page is not the last.
+     */
+    Page<User> findAll(UserFilter filter, Pageable pageable);
+
+    /**
+     * The next {@code users.stream.page-size} matching users with an id above {@code afterId}, ordered by id, in a
+     * read-only transaction of their own and detached, so walking all users page by page holds a connection only while
+     * a page is read and the persistence context does not grow with the result.
+     */
+    List<User> findAllAfter(UserFilter filter, long afterId);
+}
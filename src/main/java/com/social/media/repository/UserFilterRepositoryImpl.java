@@ -0,0 +1,99 @@
+package com.social.media.repository;
+
+import com.social.media.model.dto.user.UserFilter;
+import com.social.media.model.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.hibernate.CacheMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hibernate.jpa.HibernateHints.*;
+
+public class UserFilterRepositoryImpl implements UserFilterRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${users.stream.page-size:500}")
+    private int pageSize;
+
+    @Override
+    public Page<User> findAll(UserFilter filter, Pageable pageable) {
+        var builder = entityManager.getCriteriaBuilder();
+
+        var query = builder.createQuery(User.class);
+        var user = query.from(User.class);
+        user.fetch("role", JoinType.LEFT);
+        query.select(user)
+                .where(predicates(filter, builder, user))
+                .orderBy(builder.asc(user.get("id")));
+
+        var content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(filter));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findAllAfter(UserFilter filter, long afterId) {
+        var builder = entityManager.getCriteriaBuilder();
+
+        var query = builder.createQuery(User.class);
+        var user = query.from(User.class);
+        user.fetch("role", JoinType.LEFT);
+        var predicates = new ArrayList<>(List.of(predicates(filter, builder, user)));
+        predicates.add(builder.greaterThan(user.get("id"), afterId));
+        query.select(user)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(builder.asc(user.get("id")));
+
+        var users = entityManager.createQuery(query)
+                .setMaxResults(pageSize)
+                .setHint(HINT_READ_ONLY, true)
+                .setHint(HINT_CACHE_MODE, CacheMode.IGNORE)
+                .getResultList();
+        users.forEach(entityManager::detach);
+        return users;
+    }
+
+    private long count(UserFilter filter) {
+        var builder = entityManager.getCriteriaBuilder();
+
+        var query = builder.createQuery(Long.class);
+        var user = query.from(User.class);
+        query.select(builder.count(user))
+                .where(predicates(filter, builder, user));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Predicate[] predicates(UserFilter filter, CriteriaBuilder builder, Root<User> user) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.role() != null) {
+            predicates.add(builder.equal(user.get("role").get("name"), filter.role()));
+        }
+        if (filter.firstName() != null) {
+            predicates.add(builder.equal(user.get("firstName"), filter.firstName()));
+        }
+        if (filter.lastName() != null) {
+            predicates.add(builder.equal(user.get("lastName"), filter.lastName()));
+        }
+        if (filter.createdFrom() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(user.get("createdAt"), filter.createdFrom()));
+        }
+        if (filter.createdTo() != null) {
+            predicates.add(builder.lessThan(user.get("createdAt"), filter.createdTo()));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+}
@@ -0,0 +1,18 @@
+package com.social.media.repository;
+
+import com.social.media.model.entity.User;
+
+import java.util.Optional;
+
+public interface UserNaturalIdRepository {
+    /**
+     * Resolves the user by its natural id (username) through the natural-id cache, falling back to the unique index.
+     * Soft deleted users are not found, the natural-id loader ignores the entity's {@code @Where}.
+     */
+    Optional<User> findByNaturalId(String username);
+
+    /**
+     * Drops the user from the second-level cache at once, a bulk update evicts it only when its transaction commits.
+     */
+    void evict(long id);
+}
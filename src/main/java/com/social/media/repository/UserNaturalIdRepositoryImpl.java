@@ -0,0 +1,38 @@
+package com.social.media.repository;
+
+import com.social.media.model.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByNaturalId(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+
+        var user = entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(username);
+        if (user.isPresent() && user.get().getDeletedAt() != null) {
+            // Loaded past the @Where, so it must not stay cached for loads by id
+            entityManager.detach(user.get());
+            evict(user.get().getId());
+            return Optional.empty();
+        }
+        return user;
+    }
+
+    @Override
+    public void evict(long id) {
+        entityManager.getEntityManagerFactory().getCache().evict(User.class, id);
+    }
+}
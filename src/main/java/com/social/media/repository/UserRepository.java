@@ -1,19 +1,75 @@
 package com.social.media.repository;
 
 import com.social.media.model.entity.User;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
+/**
+ * Lookups by several keys are done one key after another, every one of them by a unique index,
+ * instead of a single OR query that cannot use one index.
+ */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByUsername(String username);
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository, UserFilterRepository {
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
-    Optional<User> findByUsernameOrEmail(String username, String email);
-    Optional<User> findByIdOrUsernameOrEmail(long id, String username, String email);
     List<User> findAllByLastName(String lastName);
     List<User> findAllByFirstName(String firstName);
     List<User> findAllByRoleName(String roleName);
+    List<User> findAllByIdGreaterThanOrderById(long id, Pageable pageable);
+
+    /**
+     * Soft deleted users are invisible to every JPQL query, even to bulk deletes, so the purge uses native SQL.
+     */
+    @Query(value = "select id, username from users where deleted_at is not null", nativeQuery = true)
+    List<DeletedUser> findAllDeleted();
+
+    /**
+     * A bulk update, so the cached entity and its natural id are evicted and the next lookup reads the row again.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.deletedAt = :deletedAt where u.id = :id")
+    int softDelete(@Param("id") long id, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * The query space limits the cache eviction of the native delete to the users region.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "users"))
+    @Query(value = "delete from users where id = :id and deleted_at is not null", nativeQuery = true)
+    int purgeDeleted(@Param("id") long id);
+
+    default Optional<User> findByUsername(String username) {
+        return findByNaturalId(username);
+    }
+
+    default Optional<User> findByUsernameOrEmail(String username, String email) {
+        return findByUsername(username)
+                .or(() -> findByEmail(email));
+    }
+
+    default Optional<User> findByIdOrUsernameOrEmail(long id, String username, String email) {
+        return findById(id)
+                .or(() -> findByUsernameOrEmail(username, email));
+    }
+
+    interface DeletedUser {
+        long getId();
+
+        String getUsername();
+    }
 }
@@ -0,0 +1,254 @@
+package com.social.media.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Embedded Lucene index of post descriptions, comments and user names. Changes are visible to searches after the next
+ * near-real-time refresh ({@code search.refresh-ms}) and are committed to the directory every {@code search.commit-ms}.
+ * The index lives in memory unless {@code search.index-dir} is set.
+ * <p>
+ * The writer is only replaced when a failed rebuild is rolled back, every other operation shares the read lock and
+ * the replacement takes the write lock.
+ */
+@Slf4j
+@Component
+public class SearchIndex {
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String OWNER_ID = "owner_id";
+    private static final String POST_ID = "post_id";
+    private static final String TEXT = "text";
+
+    private final Directory directory;
+    private final StandardAnalyzer analyzer = new StandardAnalyzer();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ReentrantReadWriteLock writerLock = new ReentrantReadWriteLock();
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private volatile boolean rebuilding;
+
+    public SearchIndex(@Value("${search.index-dir:}") String indexDir) {
+        try {
+            this.directory = indexDir.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexDir));
+            open();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Search index could not be opened", exception);
+        }
+    }
+
+    public void index(Hit hit) {
+        var document = new Document();
+        document.add(new StringField(KEY, key(hit.type(), hit.id()), Field.Store.NO));
+        document.add(new StringField(TYPE, hit.type().name(), Field.Store.YES));
+        document.add(new StoredField(ID, hit.id()));
+        document.add(new StoredField(OWNER_ID, hit.ownerId()));
+        document.add(new StoredField(POST_ID, hit.postId()));
+        document.add(new TextField(TEXT, hit.text(), Field.Store.YES));
+
+        writerLock.readLock().lock();
+        try {
+            writer.updateDocument(new Term(KEY, key(hit.type(), hit.id())), document);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Document " + key(hit.type(), hit.id()) + " could not be indexed", exception);
+        } finally {
+            writerLock.readLock().unlock();
+        }
+    }
+
+    public void remove(Type type, long id) {
+        writerLock.readLock().lock();
+        try {
+            writer.deleteDocuments(new Term(KEY, key(type, id)));
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Document " + key(type, id) + " could not be removed", exception);
+        } finally {
+            writerLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param type only documents of this type, or all types when {@code null}
+     * @return hits of the page, the most relevant first
+     */
+    public List<Hit> search(String text, Type type, int offset, int limit) {
+        var parser = new SimpleQueryParser(analyzer, TEXT);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        var query = new BooleanQuery.Builder().add(parser.parse(text), BooleanClause.Occur.MUST);
+        if (type != null) {
+            query.add(new TermQuery(new Term(TYPE, type.name())), BooleanClause.Occur.FILTER);
+        }
+
+        writerLock.readLock().lock();
+        try {
+            var searcher = searcherManager.acquire();
+            try {
+                var topDocs = searcher.search(query.build(), offset + limit);
+                var hits = new ArrayList<Hit>(limit);
+                var storedFields = searcher.storedFields();
+                for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+                    hits.add(toHit(storedFields.document(topDocs.scoreDocs[i].doc)));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Search index could not be read", exception);
+        } finally {
+            writerLock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        writerLock.readLock().lock();
+        try {
+            return writer.getDocStats().numDocs;
+        } finally {
+            writerLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Drops every document and fills the index from {@code loader}. Searches keep seeing the previous contents until
+     * the new ones are complete, changes that happen meanwhile are kept. Concurrent rebuilds run one after another.
+     * <p>
+     * The contents are committed before they are dropped, so when the loader fails the writer is rolled back to them
+     * and the index is left as it was when the rebuild started, changes made during the failed rebuild are lost.
+     */
+    public void rebuild(Runnable loader) {
+        rebuildLock.lock();
+        rebuilding = true;
+        try {
+            writer.commit();
+            writer.deleteAll();
+            loader.run();
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException exception) {
+            rollback(exception);
+            throw new UncheckedIOException("Search index could not be rebuilt", exception);
+        } catch (RuntimeException exception) {
+            rollback(exception);
+            throw exception;
+        } finally {
+            rebuilding = false;
+            rebuildLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.refresh-ms:1000}")
+    public void refresh() {
+        if (rebuilding) {
+            return;
+        }
+
+        writerLock.readLock().lock();
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException exception) {
+            log.error("Search index could not be refreshed: {}", exception.getMessage());
+        } finally {
+            writerLock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.commit-ms:30000}")
+    public void commit() {
+        if (rebuilding) {
+            return;
+        }
+
+        writerLock.readLock().lock();
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException exception) {
+            log.error("Search index could not be committed: {}", exception.getMessage());
+        } finally {
+            writerLock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        writerLock.writeLock().lock();
+        try {
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        } finally {
+            writerLock.writeLock().unlock();
+        }
+    }
+
+    private void open() throws IOException {
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    /**
+     * Discards everything since the last commit, rolling back closes the writer, so a new one is opened.
+     */
+    private void rollback(Exception cause) {
+        writerLock.writeLock().lock();
+        try {
+            writer.rollback();
+            searcherManager.close();
+            open();
+        } catch (IOException exception) {
+            cause.addSuppressed(exception);
+            log.error("Search index could not be rolled back: {}", exception.getMessage());
+        } finally {
+            writerLock.writeLock().unlock();
+        }
+    }
+
+    private Hit toHit(Document document) {
+        return new Hit(
+                Type.valueOf(document.get(TYPE)),
+                document.getField(ID).numericValue().longValue(),
+                document.getField(OWNER_ID).numericValue().longValue(),
+                document.getField(POST_ID).numericValue().longValue(),
+                document.get(TEXT)
+        );
+    }
+
+    private static String key(Type type, long id) {
+        return type.name() + ':' + id;
+    }
+
+    public enum Type {
+        POST, COMMENT, USER
+    }
+
+    /**
+     * @param ownerId the author of a post or comment, the user itself for users
+     * @param postId  the commented post for comments, the post itself for posts, 0 for users
+     */
+    public record Hit(Type type, long id, long ownerId, long postId, String text) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.social.media.search;
+
+import com.social.media.model.entity.Comment;
+import com.social.media.model.entity.Post;
+import com.social.media.model.entity.User;
+import com.social.media.search.SearchIndex.Hit;
+import com.social.media.search.SearchIndex.Type;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the {@link SearchIndex} in sync with posts, comments and users written through JPA. Changes are applied after
+ * the transaction commits, so rolled back changes never reach the index.
+ */
+@Slf4j
+@Component
+public class SearchIndexListener {
+    private final SearchIndex searchIndex;
+
+    public SearchIndexListener(SearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        var hit = toHit(entity);
+        if (hit != null) {
+            afterCommit(() -> searchIndex.index(hit));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        var hit = toHit(entity);
+        if (hit != null) {
+            afterCommit(() -> searchIndex.remove(hit.type(), hit.id()));
+        }
+    }
+
+    public static Hit toHit(Object entity) {
+        if (entity instanceof Post post) {
+            return new Hit(Type.POST, post.getId(), post.getOwner().getId(), post.getId(), post.getDescription());
+        }
+        if (entity instanceof Comment comment) {
+            return new Hit(Type.COMMENT, comment.getId(), comment.getOwner().getId(), comment.getPost().getId(), comment.getComment());
+        }
+        if (entity instanceof User user) {
+            return new Hit(Type.USER, user.getId(), user.getId(), 0, user.getName() + " " + user.getUsername());
+        }
+        return null;
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private void apply(Runnable change) {
+        try {
+            change.run();
+        } catch (RuntimeException exception) {
+            log.error("Search index could not be updated: {}", exception.getMessage());
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package com.social.media.service;
 
 import com.social.media.exception.InvalidTextException;
+import com.social.media.exception.NotFoundException;
 import com.social.media.model.entity.Comment;
 import com.social.media.repository.CommentRepository;
-import jakarta.persistence.EntityNotFoundException;
+import io.micrometer.observation.annotation.Observed;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -12,11 +13,13 @@ import java.util.List;
 import java.util.Set;
 
 @Service
+@Observed(name = "social.service")
 @AllArgsConstructor
 public class CommentService {
     private final CommentRepository commentRepository;
     private final UserService userService;
     private final PostService postService;
+    private final TrendingService trendingService;
 
     public Comment create(long ownerId, long postId, String comment) {
         checkValidComment(comment);
@@ -24,9 +27,11 @@ public class CommentService {
         Comment commentObj = new Comment();
         commentObj.setComment(comment);
         commentObj.setOwner(userService.readById(ownerId));
-        commentObj.setPost(postService.readById(postId));
+        commentObj.setPost(postService.readActiveById(postId));
 
-        return commentRepository.save(commentObj);
+        var created = commentRepository.save(commentObj);
+        trendingService.onComment(created.getPost());
+        return created;
     }
 
     public Comment create(String ownerUsername, long postId, String comment) {
@@ -35,14 +40,16 @@ public class CommentService {
         Comment commentObj = new Comment();
         commentObj.setComment(comment);
         commentObj.setOwner(userService.readByUsername(ownerUsername));
-        commentObj.setPost(postService.readById(postId));
+        commentObj.setPost(postService.readActiveById(postId));
 
-        return commentRepository.save(commentObj);
+        var created = commentRepository.save(commentObj);
+        trendingService.onComment(created.getPost());
+        return created;
     }
 
     public Comment readById(long id) {
         return commentRepository.findById(id).orElseThrow(() ->
-                new EntityNotFoundException("Comment with id" + id + "not found"));
+                new NotFoundException("Comment with id" + id + "not found"));
     }
 
     public Comment update(long id, String updatedComment) {
@@ -0,0 +1,40 @@
+package com.social.media.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of the background purge of one deleted user, updated by the purge thread and read by the progress endpoint.
+ */
+@Getter
+public class DeletionJob {
+    public enum State { RUNNING, COMPLETED, FAILED }
+
+    private final long userId;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong messages = new AtomicLong();
+    private final AtomicLong objects = new AtomicLong();
+    private volatile State state = State.RUNNING;
+    private volatile String step = "queued";
+    private volatile LocalDateTime finishedAt;
+
+    DeletionJob(long userId) {
+        this.userId = userId;
+    }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+
+    void startStep(String step) {
+        this.step = step;
+    }
+
+    void finish(State state) {
+        this.finishedAt = LocalDateTime.now();
+        this.state = state;
+    }
+}
@@ -0,0 +1,59 @@
+package com.social.media.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one data export, updated by the thread writing the archive and read by the progress endpoint.
+ */
+@Getter
+public class ExportJob {
+    public enum State { RUNNING, COMPLETED, FAILED }
+
+    private final long userId;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong entries = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong missingPhotos = new AtomicLong();
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile State state = State.RUNNING;
+    private volatile String section = "profile";
+    private volatile LocalDateTime finishedAt;
+
+    ExportJob(long userId) {
+        this.userId = userId;
+    }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+
+    void startSection(String section) {
+        this.section = section;
+    }
+
+    /**
+     * Only the first end counts, an export aborted by its request is not completed by a late writer.
+     */
+    synchronized void finish(State state) {
+        if (this.state != State.RUNNING) {
+            return;
+        }
+        this.finishedAt = LocalDateTime.now();
+        this.state = state;
+    }
+
+    /**
+     * Called by the body before it writes and by an abort, whoever comes first owns the export slot and gives it back.
+     *
+     * @return true only for the first call
+     */
+    boolean markStarted() {
+        return started.compareAndSet(false, true);
+    }
+}
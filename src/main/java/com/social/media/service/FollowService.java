@@ -0,0 +1,69 @@
+package com.social.media.service;
+
+import com.social.media.exception.FollowAlreadyExistException;
+import com.social.media.exception.NotFoundException;
+import com.social.media.exception.SameUsersException;
+import com.social.media.model.entity.Follow;
+import com.social.media.model.entity.User;
+import com.social.media.repository.FollowRepository;
+import io.micrometer.observation.annotation.Observed;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@Observed(name = "social.service")
+@AllArgsConstructor
+public class FollowService {
+    private final FollowRepository followRepository;
+    private final UserService userService;
+    private final TimelineService timelineService;
+
+    public Follow create(long followerId, long followedId) {
+        if (followerId == followedId) {
+            throw new SameUsersException("User can not follow himself!");
+        }
+        var follower = userService.readById(followerId);
+        var followed = userService.readById(followedId);
+        if (isFollowing(followerId, followedId)) {
+            throw new FollowAlreadyExistException("User " + follower.getUsername() + " already follows " + followed.getUsername());
+        }
+
+        var follow = new Follow();
+        follow.setFollower(follower);
+        follow.setFollowed(followed);
+
+        var created = followRepository.save(follow);
+        timelineService.onFollow(followerId, followedId);
+        return created;
+    }
+
+    public Follow read(long followerId, long followedId) {
+        return followRepository.findByFollowerIdAndFollowedId(followerId, followedId).orElseThrow(() ->
+                new NotFoundException(String.format("User with id %d does not follow user with id %d", followerId, followedId)));
+    }
+
+    public void delete(long followerId, long followedId) {
+        followRepository.delete(read(followerId, followedId));
+        timelineService.onUnfollow(followerId, followedId);
+    }
+
+    public boolean isFollowing(long followerId, long followedId) {
+        return followRepository.existsByFollowerIdAndFollowedId(followerId, followedId);
+    }
+
+    public List<User> getFollowers(long userId) {
+        return followRepository.findAllByFollowedId(userId)
+                .stream()
+                .map(Follow::getFollower)
+                .toList();
+    }
+
+    public List<User> getFollowings(long userId) {
+        return followRepository.findAllByFollowerId(userId)
+                .stream()
+                .map(Follow::getFollowed)
+                .toList();
+    }
+}
@@ -1,11 +1,12 @@
 package com.social.media.service;
 
 import com.social.media.exception.LikeAlreadyExistException;
+import com.social.media.exception.NotFoundException;
 import com.social.media.model.entity.Like;
 import com.social.media.model.entity.Post;
 import com.social.media.model.entity.User;
 import com.social.media.repository.LikeRepository;
-import jakarta.persistence.EntityNotFoundException;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -15,39 +16,45 @@ import java.util.List;
 import java.util.Set;
 
 @Service
+@Observed(name = "social.service")
 @AllArgsConstructor
 public class LikeService {
     private final LikeRepository likeRepository;
     private final UserService userService;
     private final PostService postService;
+    private final TrendingService trendingService;
 
     public Like create(long ownerId, long postId) {
         var owner = userService.readById(ownerId);
-        var post = postService.readById(postId);
+        var post = postService.readActiveById(postId);
         ifExistLike(owner, post);
 
         var like = new Like();
         like.setOwner(owner);
         like.setPost(post);
 
-        return likeRepository.save(like);
+        var created = likeRepository.save(like);
+        trendingService.onLike(post);
+        return created;
     }
 
     public Like create(String username, long postId) {
         var owner = userService.readByUsername(username);
-        var post = postService.readById(postId);
+        var post = postService.readActiveById(postId);
         ifExistLike(owner, post);
 
         var like = new Like();
         like.setOwner(owner);
         like.setPost(post);
 
-        return likeRepository.save(like);
+        var created = likeRepository.save(like);
+        trendingService.onLike(post);
+        return created;
     }
 
     public Like readById(long id) {
         return likeRepository.findById(id).orElseThrow(() ->
-                new EntityNotFoundException("Like with id " + id + " not found!"));
+                new NotFoundException("Like with id " + id + " not found!"));
     }
 
     public Like readByOwnerAndPost(@NotNull User owner, @NotNull Post post) {
@@ -59,8 +66,7 @@ public class LikeService {
     }
 
     public boolean isExistLike(@NotNull User owner, @NotNull Post post) {
-        var like = readByOwnerAndPost(owner, post);
-        return like != null;
+        return likeRepository.existsByOwnerIdAndPostId(owner.getId(), post.getId());
     }
 
     public Set<Like> getAll() {
@@ -2,20 +2,26 @@ package com.social.media.service;
 
 import com.google.common.collect.Iterables;
 import com.social.media.exception.InvalidTextException;
+import com.social.media.exception.NotFoundException;
 import com.social.media.model.entity.Message;
 import com.social.media.repository.MessageRepository;
+import com.social.media.repository.ReactiveMessageRepository;
+import io.micrometer.observation.annotation.Observed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 import java.util.*;
 import java.util.stream.Stream;
 
 @Service
+@Observed(name = "social.service")
 @AllArgsConstructor
 public class MessageService {
     private final MessageRepository messageRepository;
     private final MessengerService messengerService;
+    private final ReactiveMessageRepository reactiveMessageRepository;
 
     public Message create(long messengerId, long ownerId, String message) {
         checkValidMessage(message);
@@ -31,7 +37,7 @@ public class MessageService {
 
     public Message readById(String id) {
         return messageRepository.findById(id).orElseThrow(() ->
-                new EntityNotFoundException("Message with id " + id + " not found!"));
+                new NotFoundException("Message with id " + id + " not found!"));
     }
 
     public Message update(String messageId, String updatedMessage) {
@@ -71,6 +77,14 @@ public class MessageService {
                 .toList();
     }
 
+    public Flux<Message> streamAllByMessenger(long ownerMessengerId) {
+        var ownerMessenger = messengerService.readById(ownerMessengerId);
+        var recipientMessenger = messengerService.readByOwnerAndRecipient(ownerMessenger.getRecipient().getId(), ownerMessenger.getOwner().getId());
+
+        return reactiveMessageRepository.findAllByMessengerIdInOrderByTimestamp(
+                List.of(ownerMessengerId, recipientMessenger.getId()));
+    }
+
     public String getLastMessage(long ownerMessengerId) {
         var messages = getAllByMessenger(ownerMessengerId);
 
@@ -85,7 +99,7 @@ public class MessageService {
 
     private void checkValidMessengerId(long messengerId) throws EntityNotFoundException {
         if (messengerId < 1) {
-            throw new EntityNotFoundException("Messenger with id " + messengerId + " not found!");
+            throw new NotFoundException("Messenger with id " + messengerId + " not found!");
         }
     }
 }
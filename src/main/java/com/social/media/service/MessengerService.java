@@ -1,10 +1,12 @@
 package com.social.media.service;
 
 import com.social.media.exception.InvalidTextException;
+import com.social.media.exception.MessengerAlreadyExistException;
+import com.social.media.exception.NotFoundException;
 import com.social.media.exception.SameUsersException;
 import com.social.media.model.entity.Messenger;
 import com.social.media.repository.MessengerRepository;
-import jakarta.persistence.EntityNotFoundException;
+import io.micrometer.observation.annotation.Observed;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -13,23 +15,26 @@ import java.util.List;
 import java.util.Set;
 
 @Service
+@Observed(name = "social.service")
 @AllArgsConstructor
 public class MessengerService {
     private final MessengerRepository messengerRepository;
     private final UserService userService;
 
-    private static final SameUsersException SAME_USERS_EXCEPTION = new SameUsersException("You cannot create messenger for you, so write please, another user!");
+    private static final String SAME_USERS_MESSAGE = "You cannot create messenger for you, so write please, another user!";
 
     public Messenger create(long ownerId, long recipientId) {
         if (ownerId == recipientId){
-            throw SAME_USERS_EXCEPTION;
+            throw new SameUsersException(SAME_USERS_MESSAGE);
         }
 
-        var messengerForOwner = createNewMessengerById(ownerId, recipientId);
+        ifExistMessenger(ownerId, recipientId);
 
-        var messengerForRecipient = createNewMessengerById(recipientId, ownerId);
+        var messengerForOwner = createNewMessengerById(ownerId, recipientId);
 
-        messengerRepository.save(messengerForRecipient);
+        if (!messengerRepository.existsByOwnerIdAndRecipientId(recipientId, ownerId)) {
+            messengerRepository.save(createNewMessengerById(recipientId, ownerId));
+        }
         return messengerRepository.save(messengerForOwner);
     }
 
@@ -42,24 +47,26 @@ public class MessengerService {
         var recipient = userService.readByUsername(recipientUsername);
 
         if (owner.equals(recipient)){
-            throw SAME_USERS_EXCEPTION;
+            throw new SameUsersException(SAME_USERS_MESSAGE);
         }
+        ifExistMessenger(owner.getId(), recipient.getId());
 
         var messengerForOwner = new Messenger();
         messengerForOwner.setOwner(owner);
         messengerForOwner.setRecipient(recipient);
 
-        var messengerForRecipient = new Messenger();
-        messengerForRecipient.setOwner(recipient);
-        messengerForRecipient.setRecipient(owner);
-
-        messengerRepository.save(messengerForRecipient);
+        if (!messengerRepository.existsByOwnerIdAndRecipientId(recipient.getId(), owner.getId())) {
+            var messengerForRecipient = new Messenger();
+            messengerForRecipient.setOwner(recipient);
+            messengerForRecipient.setRecipient(owner);
+            messengerRepository.save(messengerForRecipient);
+        }
         return messengerRepository.save(messengerForOwner);
     }
 
     public Messenger readById(long id) {
         return messengerRepository.findById(id).orElseThrow(() ->
-                new EntityNotFoundException("Messenger with id " + id + " not found"));
+                new NotFoundException("Messenger with id " + id + " not found"));
     }
 
     public Messenger readByOwnerAndRecipient(long ownerId, long recipientId) {
@@ -78,6 +85,16 @@ public class MessengerService {
         return messengerRepository.findAllByOwnerId(ownerId);
     }
 
+    /**
+     * Only the owner side counts: a user who deleted their side of a conversation can start it again,
+     * while the recipient side that still exists is reused.
+     */
+    private void ifExistMessenger(long ownerId, long recipientId) {
+        if (messengerRepository.existsByOwnerIdAndRecipientId(ownerId, recipientId)) {
+            throw new MessengerAlreadyExistException("Messenger already exist, so you can not create it twice!");
+        }
+    }
+
     private Messenger createNewMessengerById(long ownerId, long recipientId) {
         var messenger = new Messenger();
         messenger.setOwner(userService.readById(ownerId));
@@ -2,14 +2,17 @@ package com.social.media.service;
 
 import com.social.media.exception.ConnectionToMinIOFailed;
 import com.social.media.exception.LastPhotoException;
+import com.social.media.exception.NotFoundException;
 import com.social.media.exception.PhotoGettingException;
 import com.social.media.minio.MinioClientImpl;
 import com.social.media.model.entity.Photo;
 import com.social.media.repository.PhotoRepository;
+import io.micrometer.observation.annotation.Observed;
 import io.minio.errors.MinioException;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.HashSet;
 import java.util.List;
@@ -17,10 +20,12 @@ import java.util.Set;
 
 
 @Service
+@Observed(name = "social.service")
 @AllArgsConstructor
 public class PhotoService {
     private final PhotoRepository photoRepository;
     private final MinioClientImpl minioClient;
+    private final TransactionTemplate transactionTemplate;
 
     public Photo create(Photo photo) {
         if (photo != null) {
@@ -29,9 +34,17 @@ public class PhotoService {
         throw new IllegalArgumentException("Photo cannot be 'null'");
     }
 
+    /**
+     * The photo and its owner are read in their own short transaction, the connection goes back to the pool before
+     * MinIO is called.
+     */
     public Photo readById(long id) {
-        var photo = photoRepository.findById(id).orElseThrow(() ->
-                new EntityNotFoundException("Photo with id " + id + "not found."));
+        var photo = transactionTemplate.execute(status -> {
+            var found = photoRepository.findById(id).orElseThrow(() ->
+                    new NotFoundException("Photo with id " + id + "not found."));
+            Hibernate.initialize(found.getPost().getOwner());
+            return found;
+        });
 
         getPhoto(photo);
         return photo;
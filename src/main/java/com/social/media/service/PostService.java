@@ -2,48 +2,96 @@ package com.social.media.service;
 
 import com.social.media.exception.ConnectionToMinIOFailed;
 import com.social.media.exception.InvalidTextException;
+import com.social.media.exception.NotFoundException;
 import com.social.media.exception.PhotoDoesNotExist;
 import com.social.media.exception.PostCreationException;
 import com.social.media.minio.MinioClientImpl;
 import com.social.media.model.entity.Photo;
 import com.social.media.model.entity.Post;
+import com.social.media.model.entity.User;
 import com.social.media.repository.PostRepository;
+import io.micrometer.observation.annotation.Observed;
 import io.minio.errors.*;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.File;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.LongFunction;
 
+@Slf4j
 @Service
+@Observed(name = "social.service")
 @AllArgsConstructor
 public class PostService {
+    private static final int STREAM_CHUNK_SIZE = 100;
+
     private final PostRepository postRepository;
     private final UserService userService;
     private final PhotoService photoService;
     private final MinioClientImpl minioClient;
-
+    private final TransactionTemplate transactionTemplate;
+    private final TimelineService timelineService;
+
+    /**
+     * Photos are uploaded to MinIO before the post is written, so no connection or transaction is held during
+     * the upload and a failed upload leaves nothing behind in the database. The other way round, objects this call
+     * uploaded are removed again when the post is not written or its transaction rolls back.
+     */
     public Post create(long ownerId, String description, List<String> filePaths) {
         checkDescriptionForNull(description);
 
         checkPathsForNull(filePaths);
 
-        var post = savePostToDB(ownerId, description);
-        var photos = getPhotos(filePaths, post);
-        post.setPhotos(photos);
+        var owner = userService.readById(ownerId);
+        var username = owner.getUsername();
+        makeBucketIfIsNotExist(username);
 
-        return postRepository.save(post);
+        var uploaded = new ArrayList<String>();
+        Post saved;
+        try {
+            putPhotos(username, filePaths, uploaded);
+            saved = transactionTemplate.execute(status -> {
+                var post = savePostToDB(owner, description);
+                post.setPhotos(createNewPhotos(new LinkedList<>(), filePaths, post));
+                return post;
+            });
+        } catch (RuntimeException exception) {
+            removePhotos(username, uploaded);
+            throw exception;
+        }
+        removePhotosOnRollback(username, uploaded);
+
+        timelineService.onPostCreated(saved);
+        return saved;
     }
 
     public Post readById(long id) {
         return postRepository.findById(id).orElseThrow(() ->
-                new EntityNotFoundException("Post with id " + id + " not found!"));
+                new NotFoundException("Post with id " + id + " not found!"));
+    }
+
+    /**
+     * Reads a post that may get new comments and likes, posts of soft deleted users take none while they are purged.
+     */
+    public Post readActiveById(long id) {
+        if (!postRepository.existsWithActiveOwner(id)) {
+            throw new NotFoundException("Post with id " + id + " not found!");
+        }
+        return readById(id);
     }
 
     public Post readByOwnerIdAndId(long ownerId , long id){
         return postRepository.findByOwnerIdAndId(ownerId, id).orElseThrow(() ->
-                new EntityNotFoundException(String.format("User post with user id: %d, and post id: %d, not found", ownerId, id))
+                new NotFoundException(String.format("User post with user id: %d, and post id: %d, not found", ownerId, id))
         );
     }
 
@@ -68,11 +116,38 @@ public class PostService {
         return postRepository.findAllByOwnerId(ownerId);
     }
 
-    private List<Photo> getPhotos(List<String> filePaths, Post post) {
-        var photos = createNewPhotos(new LinkedList<>(), filePaths, post);
-        makeBucketAndPutPhotoToMinIO(post.getOwner().getUsername(), filePaths);
+    public <T> Flux<T> streamAll(Function<Post, T> mapper) {
+        return streamByKeyset(lastId ->
+                postRepository.findAllByIdGreaterThanOrderById(lastId, PageRequest.ofSize(STREAM_CHUNK_SIZE)), mapper);
+    }
 
-        return photos;
+    public <T> Flux<T> streamUserPosts(long ownerId, Function<Post, T> mapper) {
+        return streamByKeyset(lastId ->
+                postRepository.findAllByOwnerIdAndIdGreaterThanOrderById(ownerId, lastId, PageRequest.ofSize(STREAM_CHUNK_SIZE)), mapper);
+    }
+
+    /**
+     * Reads posts chunk by chunk (keyset on id) on the bounded elastic scheduler. Every chunk is mapped inside its own
+     * transaction, so lazy associations are available to the mapper and no connection is held between chunks.
+     */
+    private <T> Flux<T> streamByKeyset(LongFunction<List<Post>> nextChunk, Function<Post, T> mapper) {
+        return Flux.<List<T>, Long>generate(() -> 0L, (lastId, sink) -> {
+                    var chunk = transactionTemplate.execute(status -> {
+                        var posts = nextChunk.apply(lastId);
+                        var nextLastId = posts.isEmpty() ? lastId : posts.get(posts.size() - 1).getId();
+                        return new Chunk<>(nextLastId, posts.stream().map(mapper).toList());
+                    });
+
+                    if (!chunk.items().isEmpty()) {
+                        sink.next(chunk.items());
+                    }
+                    if (chunk.items().size() < STREAM_CHUNK_SIZE) {
+                        sink.complete();
+                    }
+                    return chunk.lastId();
+                })
+                .flatMapIterable(Function.identity())
+                .subscribeOn(Schedulers.boundedElastic());
     }
 
     private List<Photo> createNewPhotos(List<Photo> photos, List<String> filePaths, Post post) {
@@ -85,21 +160,13 @@ public class PostService {
         return photos;
     }
 
-    private Post savePostToDB(long ownerId, String description) {
-        var owner = userService.readById(ownerId);
-
+    private Post savePostToDB(User owner, String description) {
         var post = new Post();
         post.setDescription(description);
         post.setOwner(owner);
         return postRepository.save(post);
     }
 
-    private void makeBucketAndPutPhotoToMinIO(String username, List<String> filePaths) {
-        makeBucketIfIsNotExist(username);
-
-        putPhotos(username, filePaths);
-    }
-
     private void makeBucketIfIsNotExist(String username) {
         if (!minioClient.isBucketExist(username)) {
             try {
@@ -112,10 +179,17 @@ public class PostService {
         }
     }
 
-    private void putPhotos(String username, List<String> photosPaths) {
+    /**
+     * @param uploaded gets the photos that were not in the bucket before, objects of other posts are never added
+     */
+    private void putPhotos(String username, List<String> photosPaths, List<String> uploaded) {
         photosPaths.forEach(photo -> {
                     try {
+                        boolean existed = minioClient.isPhotoExist(username, photo);
                         minioClient.putPhoto(username, photo);
+                        if (!existed) {
+                            uploaded.add(photo);
+                        }
                     } catch (MinioException minioException) {
                         throw new ConnectionToMinIOFailed("Connection failed: " + minioException.getMessage());
                     } catch (Exception exception) {
@@ -125,6 +199,37 @@ public class PostService {
         );
     }
 
+    /**
+     * Inside a surrounding transaction the post is only kept if that transaction commits.
+     */
+    private void removePhotosOnRollback(String username, List<String> uploaded) {
+        if (uploaded.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    removePhotos(username, uploaded);
+                }
+            }
+        });
+    }
+
+    private void removePhotos(String username, List<String> uploaded) {
+        if (uploaded.isEmpty()) {
+            return;
+        }
+
+        try {
+            minioClient.removePhotos(username, uploaded);
+        } catch (RuntimeException exception) {
+            log.warn("Photos {} of user {} were left in MinIO after the post was not saved: {}",
+                    uploaded, username, exception.getMessage());
+        }
+    }
+
     private void checkDescriptionForNull(String description) {
         if (description == null) {
             throw new InvalidTextException("Description can be blank, but not null!");
@@ -142,4 +247,7 @@ public class PostService {
             }
         });
     }
+
+    private record Chunk<T>(long lastId, List<T> items) {
+    }
 }
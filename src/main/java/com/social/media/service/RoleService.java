@@ -1,19 +1,38 @@
 package com.social.media.service;
 
+import com.social.media.component.RoleRegistry;
 import com.social.media.exception.InvalidTextException;
+import com.social.media.exception.NotFoundException;
 import com.social.media.model.entity.Role;
 import com.social.media.repository.RoleRepository;
-import jakarta.persistence.EntityNotFoundException;
-import lombok.AllArgsConstructor;
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 @Service
-@AllArgsConstructor
+@Observed(name = "social.service")
 public class RoleService {
     private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
+    private final TransactionTemplate newTransaction;
+
+    public RoleService(RoleRepository roleRepository, RoleRegistry roleRegistry, PlatformTransactionManager transactionManager) {
+        this.roleRepository = roleRepository;
+        this.roleRegistry = roleRegistry;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.newTransaction.setReadOnly(true);
+    }
 
     public Role create(String name) {
         checkValidName(name);
@@ -21,38 +40,85 @@ public class RoleService {
         var role = new Role();
         role.setName(name);
 
-        return roleRepository.save(role);
+        var saved = roleRepository.save(role);
+        reloadRegistryAfterTransaction();
+        return saved;
     }
 
+    /**
+     * Returns a loaded role, safe to use once the persistence context is closed. Roles are in the second-level cache,
+     * so the lookup rarely reaches the database.
+     */
     public Role readById(long id) {
-        return roleRepository.findById(id).orElseThrow(() ->
-                new EntityNotFoundException("Role with id " + id + " not found!"));
+        return roleRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Role with id " + id + " not found!"));
     }
 
     public Role update(long roleId, String updatedName) {
         checkValidName(updatedName);
 
-        var oldRole = readById(roleId);
+        var oldRole = roleRepository.findById(roleId).orElseThrow(() ->
+                new NotFoundException("Role with id " + roleId + " not found!"));
         oldRole.setName(updatedName);
 
-        return roleRepository.save(oldRole);
+        var saved = roleRepository.save(oldRole);
+        reloadRegistryAfterTransaction();
+        return saved;
     }
 
     public void delete(long id) {
-        roleRepository.delete(readById(id));
+        roleRepository.delete(roleRepository.findById(id).orElseThrow(() ->
+                new NotFoundException("Role with id " + id + " not found!")));
+        reloadRegistryAfterTransaction();
     }
 
+    /**
+     * The {@link RoleRegistry} resolves the name to an id, which is then loaded like {@link #readById(long)}. Only roles
+     * that are not committed yet (or do not exist) are queried by name.
+     */
     public Role readByName(String name) {
         checkValidName(name);
 
-        return roleRepository.findByName(name).orElseThrow(() ->
-                new EntityNotFoundException("Role with name " + name + " not found!"));
+        return findByName(name).orElseThrow(() -> new NotFoundException("Role with name " + name + " not found!"));
+    }
+
+    public Optional<Role> findByName(String name) {
+        return roleRegistry.findByName(name)
+                .flatMap(registered -> roleRepository.findById(registered.id()))
+                .or(() -> roleRepository.findByName(name));
     }
 
     public Set<Role> getAll() {
         return new HashSet<>(roleRepository.findAll());
     }
 
+    public boolean isAdmin(Role role) {
+        return roleRegistry.isAdmin(role);
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void reloadRegistry() {
+        roleRegistry.replaceAll(newTransaction.execute(status -> roleRepository.findAll()));
+    }
+
+    /**
+     * The registry only holds committed roles, so it is reloaded once the surrounding transaction is over,
+     * whether it was committed or rolled back.
+     */
+    private void reloadRegistryAfterTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reloadRegistry();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                reloadRegistry();
+            }
+        });
+    }
+
     private void checkValidName(String name) {
         if (name == null || name.trim().isEmpty()) {
             throw new InvalidTextException("Name of role must contain a word and cannot be blank");
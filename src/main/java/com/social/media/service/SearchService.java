@@ -0,0 +1,142 @@
+package com.social.media.service;
+
+import com.social.media.exception.InvalidTextException;
+import com.social.media.search.SearchIndex;
+import com.social.media.search.SearchIndex.Hit;
+import com.social.media.search.SearchIndex.Type;
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+@Observed(name = "social.service")
+public class SearchService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_RESULTS = 1000;
+    private static final int CHUNK_SIZE = 1000;
+
+    private final SearchIndex searchIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskExecutor executor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public SearchService(SearchIndex searchIndex, JdbcTemplate jdbcTemplate,
+                         @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) TaskExecutor executor) {
+        this.searchIndex = searchIndex;
+        this.jdbcTemplate = jdbcTemplate;
+        this.executor = executor;
+    }
+
+    /**
+     * @param type 'post', 'comment', 'user' or {@code null} for all of them
+     * @return the page of hits, the most relevant first. Only the first {@value MAX_RESULTS} hits can be paged through.
+     */
+    public List<Hit> search(String query, String type, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidTextException("Search query cannot be blank!");
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int offset = Math.max(0, page) * pageSize;
+        if (offset >= MAX_RESULTS) {
+            return List.of();
+        }
+
+        return searchIndex.search(query, toType(type), offset, Math.min(pageSize, MAX_RESULTS - offset));
+    }
+
+    /**
+     * Starts rebuilding the whole index from the database on the application task executor.
+     *
+     * @return false if a rebuild is already running
+     */
+    public boolean rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+
+        executor.execute(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException exception) {
+                log.error("Search index rebuild failed: {}", exception.getMessage(), exception);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+        return true;
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding.get();
+    }
+
+    /**
+     * Rebuilds the whole index from the database on the calling thread. Soft deleted users are left out, and so is
+     * everything they own or that sits under their posts, as their purge removes it anyway.
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+
+        searchIndex.rebuild(() -> {
+            indexTable("select p.id, p.owner_id, p.description from posts p " +
+                    "join users o on o.id = p.owner_id where o.deleted_at is null", "p.id", (rs, rowNum) -> {
+                long id = rs.getLong(1);
+                return new Hit(Type.POST, id, rs.getLong(2), id, rs.getString(3));
+            });
+            indexTable("select c.id, c.owner_id, c.post_id, c.comment from comments c " +
+                    "join users o on o.id = c.owner_id " +
+                    "join posts p on p.id = c.post_id " +
+                    "join users po on po.id = p.owner_id " +
+                    "where o.deleted_at is null and po.deleted_at is null", "c.id", (rs, rowNum) ->
+                    new Hit(Type.COMMENT, rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getString(4)));
+            indexTable("select id, first_name, last_name, username from users where deleted_at is null", "id", (rs, rowNum) -> {
+                long id = rs.getLong(1);
+                return new Hit(Type.USER, id, id, 0, rs.getString(2) + " " + rs.getString(3) + " " + rs.getString(4));
+            });
+        });
+
+        log.info("Search index rebuilt with {} documents in {} ms", searchIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Reads the table in keyset chunks, so neither the driver nor the heap ever holds the whole table.
+     *
+     * @param select query ending with a where clause, the keyset condition is appended to it
+     * @param idColumn the id of the indexed table, also the first column selected
+     */
+    private void indexTable(String select, String idColumn, RowMapper<Hit> mapper) {
+        long lastId = 0;
+        List<Hit> chunk;
+        do {
+            chunk = jdbcTemplate.query(select + " and " + idColumn + " > ? order by " + idColumn + " limit ?",
+                    mapper, lastId, CHUNK_SIZE);
+            chunk.forEach(searchIndex::index);
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).id();
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+    }
+
+    private Type toType(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Type.valueOf(type.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidTextException("Search type must be one of 'post', 'comment' or 'user'!");
+        }
+    }
+}
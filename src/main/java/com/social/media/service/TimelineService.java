@@ -0,0 +1,146 @@
+package com.social.media.service;
+
+import com.social.media.component.TimelineStore;
+import com.social.media.component.TimelineStore.Entry;
+import com.social.media.model.entity.Post;
+import com.social.media.repository.FollowRepository;
+import com.social.media.repository.PostRepository;
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Home timelines. Posts of regular users are pushed into their followers' timelines when created (fan-out-on-write),
+ * posts of accounts with at least {@code timeline.fan-out-threshold} followers are pulled and merged when the feed is read
+ * (fan-out-on-read), so one post of a popular account does not touch thousands of timelines.
+ * <p>
+ * Posts made while an account was popular are in none of the materialized timelines, so when it falls below the
+ * threshold the timelines of its followers are evicted and read again from the database.
+ */
+@Service
+@Observed(name = "social.service")
+public class TimelineService {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TimelineStore timelineStore;
+    private final FollowRepository followRepository;
+    private final PostRepository postRepository;
+    private final long fanOutThreshold;
+
+    public TimelineService(TimelineStore timelineStore, FollowRepository followRepository, PostRepository postRepository,
+                           @Value("${timeline.fan-out-threshold:1000}") long fanOutThreshold) {
+        this.timelineStore = timelineStore;
+        this.followRepository = followRepository;
+        this.postRepository = postRepository;
+        this.fanOutThreshold = fanOutThreshold;
+    }
+
+    public void onPostCreated(Post post) {
+        long authorId = post.getOwner().getId();
+        var entry = toEntry(post);
+
+        timelineStore.push(authorId, entry);
+        if (followRepository.countByFollowedId(authorId) < fanOutThreshold) {
+            followRepository.findFollowerIds(authorId)
+                    .forEach(followerId -> timelineStore.push(followerId, entry));
+        }
+    }
+
+    public void onFollow(long followerId, long followedId) {
+        if (timelineStore.contains(followerId) && followRepository.countByFollowedId(followedId) < fanOutThreshold) {
+            readNewestPosts(List.of(followedId), timelineStore.getCapacity())
+                    .forEach(entry -> timelineStore.push(followerId, entry));
+        }
+    }
+
+    public void onUnfollow(long followerId, long followedId) {
+        timelineStore.removeAuthor(followerId, followedId);
+        if (followRepository.countByFollowedId(followedId) == fanOutThreshold - 1) {
+            evictFollowers(followedId);
+        }
+    }
+
+    /**
+     * @return the accounts followed by the user that are pulled on read, the ones whose timelines
+     * {@link #onFollowersRemoved(Collection)} may have to evict once the user's follows are gone
+     */
+    public List<Long> findPopularFollowings(long followerId) {
+        return followRepository.findFollowedIdsWithFollowersAtLeast(followerId, fanOutThreshold);
+    }
+
+    /**
+     * Follows were removed in bulk, the accounts that were popular before and are not anymore get their followers'
+     * timelines evicted.
+     */
+    public void onFollowersRemoved(Collection<Long> popularAccountIds) {
+        popularAccountIds.stream()
+                .filter(accountId -> followRepository.countByFollowedId(accountId) < fanOutThreshold)
+                .forEach(this::evictFollowers);
+    }
+
+    public void evict(long userId) {
+        timelineStore.evict(userId);
+    }
+
+    /**
+     * @return posts of the user and of the followed accounts, newest first. Only the newest
+     * {@code timeline.capacity} posts are available.
+     */
+    public List<Post> getFeed(long userId, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int offset = Math.max(0, page) * pageSize;
+        if (offset >= timelineStore.getCapacity()) {
+            return List.of();
+        }
+        int limit = Math.min(offset + pageSize, timelineStore.getCapacity());
+
+        timelineStore.materialize(userId, () -> {
+            var owners = new ArrayList<>(followRepository.findFollowedIdsWithFollowersLessThan(userId, fanOutThreshold));
+            owners.add(userId);
+            return readNewestPosts(owners, timelineStore.getCapacity());
+        });
+
+        var pushed = timelineStore.read(userId, limit);
+        var popularAccounts = followRepository.findFollowedIdsWithFollowersAtLeast(userId, fanOutThreshold);
+        var pulled = popularAccounts.isEmpty() ? List.<Entry>of() : readNewestPosts(popularAccounts, limit);
+
+        var postIds = Stream.concat(pushed.stream(), pulled.stream())
+                .sorted(Comparator.comparingLong(Entry::timestamp).thenComparingLong(Entry::postId).reversed())
+                .map(Entry::postId)
+                .distinct()
+                .skip(offset)
+                .limit(pageSize)
+                .toList();
+
+        var posts = postRepository.findAllById(postIds)
+                .stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        return postIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void evictFollowers(long accountId) {
+        followRepository.findFollowerIds(accountId).forEach(timelineStore::evict);
+    }
+
+    private List<Entry> readNewestPosts(Collection<Long> ownerIds, int limit) {
+        return postRepository.findAllByOwnerIdInOrderByTimestampDescIdDesc(ownerIds, PageRequest.ofSize(limit))
+                .stream()
+                .map(this::toEntry)
+                .toList();
+    }
+
+    private Entry toEntry(Post post) {
+        return new Entry(post.getId(), post.getOwner().getId(), post.getTimestamp().toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+}
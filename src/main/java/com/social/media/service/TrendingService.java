@@ -0,0 +1,225 @@
+package com.social.media.service;
+
+import com.social.media.model.entity.Post;
+import com.social.media.repository.PostRepository;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Trending posts ranked by a time-decayed score of likes and comments from the last {@code trending.window-minutes}.
+ * <p>
+ * Likes and comments are counted per post in minute buckets updated with CAS only. A scheduled refresh ranks
+ * the posts with a bounded min-heap and publishes the top-K as an immutable snapshot, so reads never wait for writes.
+ * Within one minute the score of a post without new engagement does not change, so between full rescans (once a minute)
+ * only the posts touched since the last refresh and the previous top-K are ranked again.
+ */
+@Service
+@Observed(name = "social.service")
+@RequiredArgsConstructor
+public class TrendingService {
+    private static final int LIKE = 0;
+    private static final int COMMENT = 1;
+
+    private final PostRepository postRepository;
+
+    private final Map<Long, PostCounter> counters = new ConcurrentHashMap<>();
+    private final Set<Long> touched = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<List<RankedPost>> snapshot = new AtomicReference<>(List.of());
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private long lastFullRefreshMinute = -1;
+    private double[] decay;
+
+    @Value("${trending.window-minutes:60}")
+    private int windowMinutes;
+
+    @Value("${trending.half-life-minutes:20}")
+    private double halfLifeMinutes;
+
+    @Value("${trending.max-post-age-hours:48}")
+    private long maxPostAgeHours;
+
+    @Value("${trending.top-k:100}")
+    private int topK;
+
+    @Value("${trending.like-weight:1.0}")
+    private double likeWeight;
+
+    @Value("${trending.comment-weight:3.0}")
+    private double commentWeight;
+
+    public void onLike(Post post) {
+        record(post, LIKE);
+    }
+
+    public void onComment(Post post) {
+        record(post, COMMENT);
+    }
+
+    /**
+     * @return up to {@code limit} trending posts with the highest score first, as of the last refresh
+     */
+    public List<Post> getTrending(int limit) {
+        var postIds = snapshot.get()
+                .stream()
+                .limit(Math.max(0, Math.min(limit, topK)))
+                .map(RankedPost::postId)
+                .toList();
+
+        var posts = postRepository.findAllById(postIds)
+                .stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        return postIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public List<RankedPost> getRanking() {
+        return snapshot.get();
+    }
+
+    @Scheduled(fixedDelayString = "${trending.refresh-ms:5000}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            long minute = currentMinute();
+            var candidates = new HashSet<Long>();
+            drainTouched(candidates);
+
+            if (minute != lastFullRefreshMinute) {
+                candidates.addAll(counters.keySet());
+                lastFullRefreshMinute = minute;
+            } else {
+                snapshot.get().forEach(ranked -> candidates.add(ranked.postId()));
+            }
+
+            var heap = new PriorityQueue<>(topK + 1, Comparator.comparingDouble(RankedPost::score));
+            for (long postId : candidates) {
+                var counter = counters.get(postId);
+                if (counter == null) {
+                    continue;
+                }
+                if (isExpired(counter, minute)) {
+                    counters.remove(postId, counter);
+                    continue;
+                }
+
+                double score = counter.score(minute);
+                if (score > 0) {
+                    heap.offer(new RankedPost(postId, score));
+                    if (heap.size() > topK) {
+                        heap.poll();
+                    }
+                }
+            }
+
+            var ranking = new ArrayList<>(heap);
+            ranking.sort(Comparator.comparingDouble(RankedPost::score).reversed());
+            snapshot.set(List.copyOf(ranking));
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void record(Post post, int kind) {
+        long minute = currentMinute();
+        long postedAt = toMinute(post.getTimestamp());
+        if (minute - postedAt > maxPostAgeHours * 60) {
+            return;
+        }
+
+        counters.computeIfAbsent(post.getId(), id -> new PostCounter(postedAt)).increment(kind, minute);
+        touched.add(post.getId());
+    }
+
+    private void drainTouched(Set<Long> into) {
+        var iterator = touched.iterator();
+        while (iterator.hasNext()) {
+            into.add(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    private boolean isExpired(PostCounter counter, long minute) {
+        return minute - counter.postedAt > maxPostAgeHours * 60 || counter.isIdle(minute);
+    }
+
+    @PostConstruct
+    private void computeDecay() {
+        decay = new double[windowMinutes];
+        for (int age = 0; age < windowMinutes; age++) {
+            decay[age] = Math.pow(0.5, age / halfLifeMinutes);
+        }
+    }
+
+    private static long currentMinute() {
+        return System.currentTimeMillis() / 60_000;
+    }
+
+    private static long toMinute(LocalDateTime timestamp) {
+        return timestamp.atZone(ZoneId.systemDefault()).toEpochSecond() / 60;
+    }
+
+    public record RankedPost(long postId, double score) {
+    }
+
+    /**
+     * Every cell holds the minute it belongs to in the high 32 bits and the count in the low 32 bits,
+     * so a cell from an older minute is reset and incremented in the same CAS.
+     */
+    private class PostCounter {
+        private final long postedAt;
+        private final AtomicLongArray cells = new AtomicLongArray(windowMinutes * 2);
+
+        private PostCounter(long postedAt) {
+            this.postedAt = postedAt;
+        }
+
+        private void increment(int kind, long minute) {
+            int index = (int) (minute % windowMinutes) * 2 + kind;
+            long cell;
+            long updated;
+            do {
+                cell = cells.get(index);
+                updated = cell >>> 32 == minute ? cell + 1 : minute << 32 | 1;
+            } while (!cells.compareAndSet(index, cell, updated));
+        }
+
+        private double score(long minute) {
+            double score = 0;
+            for (int index = 0; index < cells.length(); index++) {
+                long cell = cells.get(index);
+                long age = minute - (cell >>> 32);
+                if (age >= 0 && age < windowMinutes) {
+                    double weight = index % 2 == LIKE ? likeWeight : commentWeight;
+                    score += weight * (cell & 0xFFFFFFFFL) * decay[(int) age];
+                }
+            }
+            return score;
+        }
+
+        private boolean isIdle(long minute) {
+            for (int index = 0; index < cells.length(); index++) {
+                if (minute - (cells.get(index) >>> 32) < windowMinutes) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
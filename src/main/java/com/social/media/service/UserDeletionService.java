@@ -0,0 +1,228 @@
+package com.social.media.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.social.media.minio.MinioClientImpl;
+import com.social.media.repository.*;
+import com.social.media.search.SearchIndex;
+import com.social.media.search.SearchIndex.Type;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Second phase of a user deletion: the user is already soft deleted, so hidden and logged out, and everything the user
+ * owns is purged here on a single background thread.
+ * <p>
+ * Rows referencing the user are removed in batches of {@code user-deletion.batch-size} ids, each batch one bulk
+ * {@code DELETE} in its own short transaction, children before their parents, instead of loading the whole account
+ * into one cascading transaction. The search documents of a batch and the Mongo messages of its messengers are
+ * removed once the batch committed, a rolled back batch keeps them. The user's bucket goes from MinIO and the user row
+ * goes last, so its username and email stay taken until everything else is gone.
+ * <p>
+ * Posts of a soft deleted user take no new comments or likes, but one saved just before can still make a step fail
+ * on a foreign key. Users still soft deleted, whether failed or never started, are purged again on startup and every
+ * {@code user-deletion.retry-ms}. Progress is kept for an hour after the end.
+ */
+@Slf4j
+@Service
+public class UserDeletionService {
+    private final UserRepository userRepository;
+    private final LikeRepository likeRepository;
+    private final CommentRepository commentRepository;
+    private final PhotoRepository photoRepository;
+    private final PostRepository postRepository;
+    private final FollowRepository followRepository;
+    private final MessengerRepository messengerRepository;
+    private final MessageRepository messageRepository;
+    private final MinioClientImpl minioClient;
+    private final SearchIndex searchIndex;
+    private final TimelineService timelineService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final ExecutorService executor;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Cache<Long, DeletionJob> jobs = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    public UserDeletionService(UserRepository userRepository, LikeRepository likeRepository, CommentRepository commentRepository,
+                               PhotoRepository photoRepository, PostRepository postRepository, FollowRepository followRepository,
+                               MessengerRepository messengerRepository, MessageRepository messageRepository,
+                               MinioClientImpl minioClient, SearchIndex searchIndex, TimelineService timelineService,
+                               TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                               @Value("${user-deletion.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.likeRepository = likeRepository;
+        this.commentRepository = commentRepository;
+        this.photoRepository = photoRepository;
+        this.postRepository = postRepository;
+        this.followRepository = followRepository;
+        this.messengerRepository = messengerRepository;
+        this.messageRepository = messageRepository;
+        this.minioClient = minioClient;
+        this.searchIndex = searchIndex;
+        this.timelineService = timelineService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "user-deletion");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("user.deletion.pending", pending, AtomicInteger::get)
+                .description("Deleted users whose content is still being purged")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the purge of a soft deleted user. Inside a transaction it is queued once that transaction committed,
+     * a rolled back deletion never purges anything.
+     */
+    public void purgeAfterCommit(long userId, String username) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            purge(userId, username);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                purge(userId, username);
+            }
+        });
+    }
+
+    public Optional<DeletionJob> findJob(long userId) {
+        return Optional.ofNullable(jobs.getIfPresent(userId));
+    }
+
+    /**
+     * Purges the users still soft deleted again, the ones whose purge is running are skipped.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${user-deletion.retry-ms:600000}", fixedDelayString = "${user-deletion.retry-ms:600000}")
+    public void resumePurges() {
+        var deletedUsers = userRepository.findAllDeleted();
+        if (!deletedUsers.isEmpty()) {
+            log.info("Resuming the purge of {} deleted users", deletedUsers.size());
+        }
+        deletedUsers.forEach(user -> purge(user.getId(), user.getUsername()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void purge(long userId, String username) {
+        var job = new DeletionJob(userId);
+        var previous = jobs.asMap().putIfAbsent(userId, job);
+        if (previous != null) {
+            if (previous.isRunning()) {
+                return;
+            }
+            jobs.put(userId, job);
+        }
+
+        searchIndex.remove(Type.USER, userId);
+        timelineService.evict(userId);
+        pending.incrementAndGet();
+        executor.execute(() -> run(job, username));
+    }
+
+    private void run(DeletionJob job, String username) {
+        long userId = job.getUserId();
+        long start = System.currentTimeMillis();
+        try {
+            deleteInBatches(job, "likes", likeRepository,
+                    page -> likeRepository.findIdsByOwnerIdOrPostOwnerId(userId, page));
+            deleteInBatches(job, "comments", commentRepository,
+                    page -> commentRepository.findIdsByOwnerIdOrPostOwnerId(userId, page),
+                    ids -> ids.forEach(id -> searchIndex.remove(Type.COMMENT, id)));
+            deleteInBatches(job, "photos", photoRepository,
+                    page -> photoRepository.findIdsByPostOwnerId(userId, page));
+            deleteInBatches(job, "posts", postRepository,
+                    page -> postRepository.findIdsByOwnerId(userId, page),
+                    ids -> ids.forEach(id -> searchIndex.remove(Type.POST, id)));
+            var popularFollowings = timelineService.findPopularFollowings(userId);
+            deleteInBatches(job, "follows", followRepository,
+                    page -> followRepository.findIdsByFollowerIdOrFollowedId(userId, page));
+            timelineService.onFollowersRemoved(popularFollowings);
+            deleteInBatches(job, "messengers", messengerRepository,
+                    page -> messengerRepository.findIdsByOwnerIdOrRecipientId(userId, page),
+                    ids -> job.getMessages().addAndGet(messageRepository.deleteAllByMessengerIdIn(ids)));
+
+            job.startStep("bucket");
+            minioClient.removeBucket(username, removed -> job.getObjects().addAndGet(removed));
+
+            job.startStep("user");
+            transactionTemplate.executeWithoutResult(status -> job.getRows().addAndGet(userRepository.purgeDeleted(userId)));
+
+            job.finish(DeletionJob.State.COMPLETED);
+            jobs.put(userId, job);
+            log.info("User {} purged in {} ms: {} rows, {} messages, {} objects", userId,
+                    System.currentTimeMillis() - start, job.getRows().get(), job.getMessages().get(), job.getObjects().get());
+        } catch (RuntimeException exception) {
+            job.finish(DeletionJob.State.FAILED);
+            jobs.put(userId, job);
+            log.error("Purge of user {} failed at step '{}', it is retried later: {}",
+                    userId, job.getStep(), exception.getMessage());
+        } finally {
+            pending.decrementAndGet();
+        }
+    }
+
+    private void deleteInBatches(DeletionJob job, String step, JpaRepository<?, Long> repository,
+                                 Function<Pageable, List<Long>> nextIds) {
+        deleteInBatches(job, step, repository, nextIds, ids -> {
+        });
+    }
+
+    /**
+     * Takes the first ids left until none are, the removed rows make room for the next batch without any offset.
+     *
+     * @param removeElsewhere removes what the batch referred to outside the database, after its rows are committed
+     */
+    private void deleteInBatches(DeletionJob job, String step, JpaRepository<?, Long> repository,
+                                 Function<Pageable, List<Long>> nextIds, Consumer<List<Long>> removeElsewhere) {
+        job.startStep(step);
+
+        List<Long> ids;
+        do {
+            ids = transactionTemplate.execute(status -> {
+                var batch = nextIds.apply(PageRequest.ofSize(batchSize));
+                if (!batch.isEmpty()) {
+                    repository.deleteAllByIdInBatch(batch);
+                }
+                return batch;
+            });
+            job.getRows().addAndGet(ids.size());
+            if (!ids.isEmpty()) {
+                removeElsewhere.accept(ids);
+            }
+        } while (ids.size() == batchSize);
+    }
+}
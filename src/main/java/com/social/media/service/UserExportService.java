@@ -0,0 +1,362 @@
+package com.social.media.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.social.media.exception.PhotoInBucketNotFound;
+import com.social.media.exception.ServerBusyException;
+import com.social.media.minio.MinioClientImpl;
+import com.social.media.model.entity.Comment;
+import com.social.media.model.entity.Like;
+import com.social.media.model.entity.Messenger;
+import com.social.media.model.entity.Post;
+import com.social.media.model.mapper.*;
+import com.social.media.repository.*;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Data export (takeout) of one user as a ZIP written straight to the given stream: the profile, one JSON line per
+ * post, comment, like, messenger and message, and the photo files.
+ * <p>
+ * Rows are read in keyset chunks, each chunk in its own transaction and serialized there, so no connection is held
+ * while the client reads. Messages come from a Mongo cursor and photos are copied from MinIO through a small buffer,
+ * memory stays flat whatever the size of the export. At most {@code export.max-concurrent} exports run at once and
+ * one per user, others are rejected with {@link ServerBusyException}. Progress is kept for an hour after the end.
+ */
+@Slf4j
+@Service
+public class UserExportService {
+    private static final int CHUNK_SIZE = 100;
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final UserService userService;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final MessengerRepository messengerRepository;
+    private final ReactiveMessageRepository messageRepository;
+    private final UserMapper userMapper;
+    private final PostMapper postMapper;
+    private final CommentMapper commentMapper;
+    private final LikeMapper likeMapper;
+    private final MessengerMapper messengerMapper;
+    private final MessageMapper messageMapper;
+    private final MinioClientImpl minioClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter writer;
+    private final Semaphore permits;
+    private final Cache<Long, ExportJob> jobs = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    public UserExportService(UserService userService, PostRepository postRepository, CommentRepository commentRepository,
+                             LikeRepository likeRepository, MessengerRepository messengerRepository,
+                             ReactiveMessageRepository messageRepository, UserMapper userMapper, PostMapper postMapper,
+                             CommentMapper commentMapper, LikeMapper likeMapper, MessengerMapper messengerMapper,
+                             MessageMapper messageMapper, MinioClientImpl minioClient, TransactionTemplate transactionTemplate,
+                             ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                             @Value("${export.max-concurrent:2}") int maxConcurrent) {
+        this.userService = userService;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.likeRepository = likeRepository;
+        this.messengerRepository = messengerRepository;
+        this.messageRepository = messageRepository;
+        this.userMapper = userMapper;
+        this.postMapper = postMapper;
+        this.commentMapper = commentMapper;
+        this.likeMapper = likeMapper;
+        this.messengerMapper = messengerMapper;
+        this.messageMapper = messageMapper;
+        this.minioClient = minioClient;
+        this.transactionTemplate = transactionTemplate;
+        this.writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.permits = new Semaphore(maxConcurrent);
+
+        Gauge.builder("user.export.active", permits, semaphore -> maxConcurrent - semaphore.availablePermits())
+                .description("Data exports being written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reserves one of the export slots for the user, the returned job must be passed to
+     * {@link #write(ExportJob, OutputStream)} or {@link #abort(ExportJob)}, either gives the slot back.
+     */
+    public ExportJob start(long userId) {
+        userService.readById(userId);
+
+        if (!permits.tryAcquire()) {
+            throw new ServerBusyException("Too many data exports in progress, please try again later!");
+        }
+        try {
+            return jobs.asMap().compute(userId, (id, previous) -> {
+                if (previous != null && previous.isRunning()) {
+                    throw new ServerBusyException("A data export of this user is already in progress!");
+                }
+                return new ExportJob(id);
+            });
+        } catch (RuntimeException exception) {
+            permits.release();
+            throw exception;
+        }
+    }
+
+    public Optional<ExportJob> findJob(long userId) {
+        return Optional.ofNullable(jobs.getIfPresent(userId));
+    }
+
+    /**
+     * Ends a job whose archive will not be written to the end, e.g. the request timed out or failed before or while
+     * the body ran, or the body was never run. A job that already finished is left as it is.
+     * <p>
+     * Only a body that never started gets its slot back here. A running body stops at its next write and gives the
+     * slot back itself once it is done, so the number of exports being written never exceeds the bound.
+     */
+    public void abort(ExportJob job) {
+        job.finish(ExportJob.State.FAILED);
+        if (job.markStarted()) {
+            permits.release();
+        }
+    }
+
+    public void write(ExportJob job, OutputStream output) throws IOException {
+        if (!job.markStarted()) {
+            throw new IOException("Data export of user " + job.getUserId() + " was aborted");
+        }
+
+        try {
+            var zip = new ZipOutputStream(new BufferedOutputStream(new CountingOutputStream(output, job)));
+            long userId = job.getUserId();
+
+            var user = transactionTemplate.execute(status -> userService.readById(userId));
+            job.startSection("profile");
+            writeEntry(zip, job, "profile.json", List.of(json(userMapper.createUserResponseFromUser(user))));
+
+            job.startSection("posts");
+            writeChunks(zip, job, "posts.ndjson", (lastId, page) ->
+                    postRepository.findAllByOwnerIdAndIdGreaterThanOrderById(userId, lastId, page),
+                    Post::getId, postMapper::createPostResponseFromPost);
+
+            job.startSection("comments");
+            writeChunks(zip, job, "comments.ndjson", (lastId, page) ->
+                    commentRepository.findAllByOwnerIdAndIdGreaterThanOrderById(userId, lastId, page),
+                    Comment::getId, commentMapper::createCommentResponseForOwnerFromComment);
+
+            job.startSection("likes");
+            writeChunks(zip, job, "likes.ndjson", (lastId, page) ->
+                    likeRepository.findAllByOwnerIdAndIdGreaterThanOrderById(userId, lastId, page),
+                    Like::getId, likeMapper::createLikeResponseForOwnerFromLike);
+
+            job.startSection("messengers");
+            var messengerIds = new ArrayList<Long>();
+            writeChunks(zip, job, "messengers.ndjson", (lastId, page) ->
+                    messengerRepository.findAllByOwnerIdAndIdGreaterThanOrderById(userId, lastId, page),
+                    Messenger::getId, messenger -> {
+                        messengerIds.add(messenger.getId());
+                        return messengerMapper.createAllMessengersResponseFromMessenger(messenger, null);
+                    });
+
+            job.startSection("messages");
+            writeMessages(zip, job, messengerIds);
+
+            job.startSection("photos");
+            writePhotos(zip, job, user.getUsername());
+
+            zip.finish();
+            zip.flush();
+            job.finish(ExportJob.State.COMPLETED);
+        } catch (IOException | RuntimeException exception) {
+            job.finish(ExportJob.State.FAILED);
+            throw exception;
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Reads rows after the last id chunk by chunk, every chunk is mapped and serialized in its own transaction.
+     */
+    private <E> void writeChunks(ZipOutputStream zip, ExportJob job, String name, BiFunction<Long, Pageable, List<E>> nextChunk,
+                                 ToLongFunction<E> id, Function<E, ?> mapper) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+
+        long lastId = 0;
+        List<byte[]> lines;
+        do {
+            long after = lastId;
+            var chunk = transactionTemplate.execute(status -> {
+                var rows = nextChunk.apply(after, PageRequest.ofSize(CHUNK_SIZE));
+                var nextLastId = rows.isEmpty() ? after : id.applyAsLong(rows.get(rows.size() - 1));
+                return new Chunk<>(nextLastId, rows.stream().map(mapper).map(this::json).toList());
+            });
+            lines = chunk.items();
+            lastId = chunk.lastId();
+
+            for (var line : lines) {
+                zip.write(line);
+                zip.write(NEW_LINE);
+            }
+            job.getEntries().addAndGet(lines.size());
+        } while (lines.size() == CHUNK_SIZE);
+
+        zip.closeEntry();
+    }
+
+    /**
+     * Messages of the user's messengers from a Mongo cursor, at most one batch of them is held at a time.
+     */
+    private void writeMessages(ZipOutputStream zip, ExportJob job, List<Long> messengerIds) throws IOException {
+        zip.putNextEntry(new ZipEntry("messages.ndjson"));
+
+        if (!messengerIds.isEmpty()) {
+            try (var messages = messageRepository.findAllByMessengerIdInOrderByTimestamp(messengerIds).toStream(CHUNK_SIZE)) {
+                var iterator = messages.iterator();
+                while (iterator.hasNext()) {
+                    zip.write(json(messageMapper.createMessageResponseFromMessage(iterator.next())));
+                    zip.write(NEW_LINE);
+                    job.getEntries().incrementAndGet();
+                }
+            }
+        }
+
+        zip.closeEntry();
+    }
+
+    /**
+     * Photos are already compressed, they are stored as they are and copied from MinIO through a small buffer.
+     * A photo missing in MinIO is counted and skipped, the rest of the export is still useful. MinIO being down fails
+     * the export instead, an archive without all the photos must not look complete.
+     */
+    private void writePhotos(ZipOutputStream zip, ExportJob job, String bucket) throws IOException {
+        zip.setLevel(Deflater.NO_COMPRESSION);
+
+        long lastPostId = 0;
+        List<PhotoObject> photos;
+        int posts;
+        do {
+            long after = lastPostId;
+            var chunk = transactionTemplate.execute(status -> {
+                var rows = postRepository.findAllByOwnerIdAndIdGreaterThanOrderById(job.getUserId(), after, PageRequest.ofSize(CHUNK_SIZE));
+                var nextLastId = rows.isEmpty() ? after : rows.get(rows.size() - 1).getId();
+                var objects = rows.stream()
+                        .flatMap(post -> post.getPhotos().stream())
+                        .map(photo -> new PhotoObject(photo.getPost().getId(), photo.getId(), photo.getFile().getPath().replace("\\", "/")))
+                        .toList();
+                return new PhotoChunk(nextLastId, rows.size(), objects);
+            });
+            lastPostId = chunk.lastPostId();
+            posts = chunk.posts();
+            photos = chunk.photos();
+
+            for (var photo : photos) {
+                writePhoto(zip, job, bucket, photo);
+            }
+        } while (posts == CHUNK_SIZE);
+    }
+
+    private void writePhoto(ZipOutputStream zip, ExportJob job, String bucket, PhotoObject photo) throws IOException {
+        InputStream input;
+        try {
+            input = minioClient.openPhoto(bucket, photo.objectName());
+        } catch (PhotoInBucketNotFound exception) {
+            log.warn("Photo {} of user {} skipped in the data export: {}", photo.objectName(), job.getUserId(), exception.getMessage());
+            job.getMissingPhotos().incrementAndGet();
+            return;
+        }
+
+        try (input) {
+            var fileName = photo.objectName().substring(photo.objectName().lastIndexOf('/') + 1);
+            zip.putNextEntry(new ZipEntry("photos/" + photo.postId() + "/" + photo.photoId() + "-" + fileName));
+            input.transferTo(zip);
+            zip.closeEntry();
+            job.getEntries().incrementAndGet();
+        }
+    }
+
+    private void writeEntry(ZipOutputStream zip, ExportJob job, String name, List<byte[]> lines) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        for (var line : lines) {
+            zip.write(line);
+        }
+        zip.closeEntry();
+        job.getEntries().addAndGet(lines.size());
+    }
+
+    private byte[] json(Object value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private record Chunk<T>(long lastId, List<T> items) {
+    }
+
+    private record PhotoObject(long postId, long photoId, String objectName) {
+    }
+
+    private record PhotoChunk(long lastPostId, int posts, List<PhotoObject> photos) {
+    }
+
+    /**
+     * Counts the bytes handed to the client for the progress of the export.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        private final ExportJob job;
+
+        private CountingOutputStream(OutputStream output, ExportJob job) {
+            super(output);
+            this.job = job;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            checkRunning();
+            out.write(b);
+            job.getBytes().incrementAndGet();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            checkRunning();
+            out.write(b, off, len);
+            job.getBytes().addAndGet(len);
+        }
+
+        // the buffer above may hand over the whole archive in the last flush, an abort during it must still fail
+        @Override
+        public void flush() throws IOException {
+            checkRunning();
+            out.flush();
+        }
+
+        private void checkRunning() throws IOException {
+            if (!job.isRunning()) {
+                throw new IOException("Data export of user " + job.getUserId() + " was aborted");
+            }
+        }
+    }
+}
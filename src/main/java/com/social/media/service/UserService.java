@@ -1,41 +1,62 @@
 package com.social.media.service;
 
+import com.social.media.component.UserAutocompleteIndex;
+import com.social.media.component.UserAutocompleteIndex.Suggestion;
 import com.social.media.exception.InvalidTextException;
+import com.social.media.exception.NotFoundException;
+import com.social.media.model.dto.user.UserFilter;
 import com.social.media.model.entity.Role;
 import com.social.media.model.entity.User;
 import com.social.media.repository.UserRepository;
-import jakarta.persistence.EntityNotFoundException;
+import io.micrometer.observation.annotation.Observed;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+@Slf4j
 @Service
+@Observed(name = "social.service")
 @AllArgsConstructor
 public class UserService {
+    private static final int AUTOCOMPLETE_CHUNK_SIZE = 1000;
+    private static final int MAX_SUGGESTIONS = 50;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserAutocompleteIndex autocompleteIndex;
+    private final UserDeletionService userDeletionService;
 
     public User create(User user, Role role) {
         if (user != null) {
             user.setPassword(passwordEncoder.encode(user.getPassword()));
             user.setRole(role);
-            return userRepository.save(user);
+            return saveAndIndex(user);
         }
         throw new IllegalArgumentException("User cannot be blank!");
     }
 
     public User readById(long id) {
         return userRepository.findById(id).orElseThrow(() ->
-                new EntityNotFoundException("User with id " + id + " not found!"));
+                new NotFoundException("User with id " + id + " not found!"));
     }
 
     public User readByIdOrUsernameOrEmail(long id, String username, String email) {
         return userRepository.findByIdOrUsernameOrEmail(id, username, email)
-                .orElseThrow(() -> new EntityNotFoundException(
+                .orElseThrow(() -> new NotFoundException(
                                 String.format("User with id %d not found/ User with username %s not found/ User with email %s not found",
                                         id, username, email)
                         )
@@ -58,7 +79,7 @@ public class UserService {
         var user = readById(id);
         user.setFirstName(firstName);
         user.setLastName(lastName);
-        return userRepository.save(user);
+        return saveAndIndex(user);
     }
 
     public User updateNamesByUsernameOrEmail(String currentUsernameOrEmail, String firstName, String lastName) {
@@ -68,7 +89,7 @@ public class UserService {
         var user = getUserByUsernameOrEmail(currentUsernameOrEmail);
         user.setFirstName(firstName);
         user.setLastName(lastName);
-        return userRepository.save(user);
+        return saveAndIndex(user);
     }
 
     public User updatePasswordById(long id, String oldPassword, String newPassword) {
@@ -89,35 +110,52 @@ public class UserService {
     }
 
     public void delete(long id) {
-        userRepository.delete(readById(id));
+        deleteAndUnindex(readById(id));
     }
 
     public void delete(String currentUsernameEmail) {
-        userRepository.delete(getUserByUsernameOrEmail(currentUsernameEmail));
+        deleteAndUnindex(getUserByUsernameOrEmail(currentUsernameEmail));
     }
 
     public void delete(long id, String username, String email) {
-        userRepository.delete(readByIdOrUsernameOrEmail(id, username, email));
+        deleteAndUnindex(readByIdOrUsernameOrEmail(id, username, email));
     }
 
     public User readByUsername(String username) {
         checkValidString(username, "Username must contains letters in lower case and can contain '-' or '.'");
 
         return userRepository.findByUsername(username).orElseThrow(() ->
-                new EntityNotFoundException("User with username " + username + " not found!"));
+                new NotFoundException("User with username " + username + " not found!"));
     }
 
     public User readByEmail(String email) {
         checkValidString(email, "Email must contains at least one '@' and one '.' symbols");
 
         return userRepository.findByEmail(email).orElseThrow(() ->
-                new EntityNotFoundException("User with email " + email + " not found!"));
+                new NotFoundException("User with email " + email + " not found!"));
     }
 
     public List<User> getAll() {
         return userRepository.findAll();
     }
 
+    public Page<User> getAll(UserFilter filter, Pageable pageable) {
+        return userRepository.findAll(filter, pageable);
+    }
+
+    /**
+     * Hands the matching users one by one to the action, read page by page (keyset on id) with one short read-only
+     * transaction each, so neither the whole result nor a connection is held while the action waits for a slow client.
+     */
+    public void forEach(UserFilter filter, Consumer<User> action) {
+        long lastId = 0;
+        List<User> page;
+        while (!(page = userRepository.findAllAfter(filter, lastId)).isEmpty()) {
+            page.forEach(action);
+            lastId = page.get(page.size() - 1).getId();
+        }
+    }
+
     public List<User> getAllByFirstName(String firstName) {
         checkValidString(firstName, "First name must start with a capital letter and followed by one or more lowercase");
 
@@ -134,8 +172,21 @@ public class UserService {
         checkValidString(currentUsernameEmail, "Username must contains letters in lower case and can contain '-' or '.' /" +
                 " Email must contains at least one '@' and one '.' symbols");
 
-        return userRepository.findByUsernameOrEmail(currentUsernameEmail, currentUsernameEmail)
-                .orElseThrow(() -> new EntityNotFoundException("User with username or email '" + currentUsernameEmail + "' not found!"));
+        return findByUsernameOrEmail(currentUsernameEmail).orElseThrow(() ->
+                new NotFoundException("User with username or email '" + currentUsernameEmail + "' not found!"));
+    }
+
+    /**
+     * Lookup for callers where a missing user is an expected outcome, e.g. a valid token of a deleted user.
+     */
+    public Optional<User> findByUsernameOrEmail(String usernameOrEmail) {
+        if (usernameOrEmail == null || usernameOrEmail.isBlank()) {
+            return Optional.empty();
+        }
+
+        return isEmail(usernameOrEmail)
+                ? userRepository.findByEmail(usernameOrEmail)
+                : userRepository.findByUsername(usernameOrEmail);
     }
 
     public List<User> getAllByRole(String roleName) {
@@ -144,6 +195,60 @@ public class UserService {
         return userRepository.findAllByRoleName(roleName);
     }
 
+    public List<Suggestion> autocomplete(String prefix, int limit) {
+        checkValidString(prefix, "Prefix must contain at least one letter!");
+
+        return autocompleteIndex.suggest(prefix, Math.min(limit, MAX_SUGGESTIONS));
+    }
+
+    /**
+     * Loads every user into the autocomplete index, on startup and after users were written around this service.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void rebuildAutocomplete() {
+        long start = System.currentTimeMillis();
+        var suggestions = new ArrayList<Suggestion>();
+        List<User> chunk;
+        long lastId = 0;
+        do {
+            chunk = userRepository.findAllByIdGreaterThanOrderById(lastId, PageRequest.ofSize(AUTOCOMPLETE_CHUNK_SIZE));
+            chunk.forEach(user -> suggestions.add(
+                    new Suggestion(user.getId(), user.getUsername(), user.getFirstName(), user.getLastName())));
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == AUTOCOMPLETE_CHUNK_SIZE);
+
+        autocompleteIndex.replaceAll(suggestions);
+        log.info("Autocomplete index built with {} users in {} ms", suggestions.size(), System.currentTimeMillis() - start);
+    }
+
+    private User saveAndIndex(User user) {
+        var saved = userRepository.save(user);
+        autocompleteIndex.put(saved);
+        return saved;
+    }
+
+    /**
+     * Soft deletes the user, which hides it from then on, and leaves the removal of its content to the background purge.
+     */
+    private void deleteAndUnindex(User user) {
+        userRepository.softDelete(user.getId(), LocalDateTime.now());
+        userRepository.evict(user.getId());
+        autocompleteIndex.remove(user.getId());
+        userDeletionService.purgeAfterCommit(user.getId(), user.getUsername());
+    }
+
+    /**
+     * Re-hashes a just verified password if its hash has a lower cost factor than {@code bcrypt.strength}.
+     */
+    public void upgradePasswordEncoding(User user, String rawPassword) {
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(rawPassword));
+            userRepository.save(user);
+        }
+    }
+
     private User getUser(User updatedUser, String oldPassword) {
         var oldUser = readByIdOrUsernameOrEmail(updatedUser.getId(), updatedUser.getUsername(), updatedUser.getEmail());
 
@@ -166,6 +271,13 @@ public class UserService {
         throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Wrong old password");
     }
 
+    /**
+     * Usernames cannot contain '@', so the kind of the identifier decides which unique key it is looked up by.
+     */
+    private static boolean isEmail(String usernameOrEmail) {
+        return usernameOrEmail.indexOf('@') >= 0;
+    }
+
     private void checkValidString(String checking, String exception) {
         if (checking == null || checking.trim().isEmpty()) {
             throw new InvalidTextException(exception);
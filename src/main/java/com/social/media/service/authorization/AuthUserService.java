@@ -1,6 +1,7 @@
 package com.social.media.service.authorization;
 
 import com.social.media.model.entity.User;
+import com.social.media.service.RoleService;
 import com.social.media.service.UserService;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Service;
 @AllArgsConstructor
 public class AuthUserService {
     private final UserService userService;
+    private final RoleService roleService;
 
     public boolean isAuthAndUserAndUserRequestSame(long userId, long userRequestId, String currentUsername) {
         return userId == userRequestId && isAuthAndUserSame(userId, currentUsername);
@@ -44,7 +46,7 @@ public class AuthUserService {
     }
 
     public boolean isAdmin(String currentUsername) {
-        return getUser(currentUsername).getRole().getName().equals("ADMIN");
+        return roleService.isAdmin(getUser(currentUsername).getRole());
     }
 
 }
@@ -0,0 +1,108 @@
+package com.social.media.util;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * HS512 signing keys by their id ({@code kid}). Tokens are signed with the active key and verified with the key
+ * named in their header, so a rotated-out key keeps verifying the tokens it signed.
+ * <p>
+ * The key file has one {@code kid=base64 secret} per line, the last line is the active key. It is created with
+ * a random key if missing. To rotate, append a new line and restart, drop the old line once its tokens expired.
+ */
+@Slf4j
+public class JwtKeys {
+    private static final String ALGORITHM = SignatureAlgorithm.HS512.getJcaName();
+    private static final JwtKeys EPHEMERAL = new JwtKeys(Map.of("ephemeral", newKey()), "ephemeral");
+
+    private final Map<String, SecretKey> keys;
+    private final String activeKid;
+
+    private JwtKeys(Map<String, SecretKey> keys, String activeKid) {
+        this.keys = Map.copyOf(keys);
+        this.activeKid = activeKid;
+    }
+
+    /**
+     * One random key per JVM, tokens do not survive a restart.
+     */
+    public static JwtKeys ephemeral() {
+        return EPHEMERAL;
+    }
+
+    public static JwtKeys load(Path file) {
+        try {
+            if (Files.notExists(file)) {
+                create(file);
+            }
+
+            var keys = new LinkedHashMap<String, SecretKey>();
+            String activeKid = null;
+            for (var line : Files.readAllLines(file)) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                int separator = line.indexOf('=');
+                if (separator <= 0) {
+                    throw new IllegalStateException("JWT key file " + file + " has a line without 'kid=secret'");
+                }
+                activeKid = line.substring(0, separator).trim();
+                keys.put(activeKid, new SecretKeySpec(Base64.getDecoder().decode(line.substring(separator + 1).trim()), ALGORITHM));
+            }
+            if (activeKid == null) {
+                throw new IllegalStateException("JWT key file " + file + " has no keys");
+            }
+
+            log.info("Loaded {} JWT signing keys from {}, active key '{}'", keys.size(), file, activeKid);
+            return new JwtKeys(keys, activeKid);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("JWT key file " + file + " could not be read", exception);
+        }
+    }
+
+    public String activeKid() {
+        return activeKid;
+    }
+
+    public SecretKey active() {
+        return keys.get(activeKid);
+    }
+
+    /**
+     * @return the key with this id, {@code null} if there is none
+     */
+    public SecretKey get(String kid) {
+        return kid == null ? null : keys.get(kid);
+    }
+
+    private static void create(Path file) throws IOException {
+        var line = UUID.randomUUID() + "=" + Base64.getEncoder().encodeToString(newKey().getEncoded()) + System.lineSeparator();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, line);
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException exception) {
+            log.warn("JWT key file {} could not be restricted to its owner", file);
+        }
+        log.info("Created JWT key file {}", file);
+    }
+
+    private static SecretKey newKey() {
+        return Keys.secretKeyFor(SignatureAlgorithm.HS512);
+    }
+}
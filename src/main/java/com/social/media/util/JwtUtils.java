@@ -2,67 +2,217 @@ package com.social.media.util;
 
 import com.social.media.exception.InvalidTextException;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Path;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * Short-lived access tokens ({@code my.inspiration.ms}) and long-lived refresh tokens ({@code jwt.refresh-token-ms}),
+ * both with a {@code jti} and signed with the active key of {@link JwtKeys}, whose id is the {@code kid} header.
+ * Without {@code jwt.keys-file} the key is generated at startup, so tokens do not survive a restart.
+ */
 @Slf4j
 @Component
 public class JwtUtils {
-    private static final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+    public static final String REFRESH_COOKIE = "refresh_token";
+    private static final String REFRESH_COOKIE_PATH = "/api/auth";
+    private static final String TYPE_CLAIM = "type";
+
+    private final ObservationRegistry observationRegistry;
+    private final JwtKeys keys;
+    private final JwtParser parser;
 
     @Value("${my.inspiration.ms}")
     private long inspirationMs;
 
+    @Value("${jwt.refresh-token-ms:1209600000}")
+    private long refreshTokenMs;
+
+    @Value("${jwt.refresh-cookie-secure:true}")
+    private boolean refreshCookieSecure;
+
+    public JwtUtils(ObservationRegistry observationRegistry) {
+        this(observationRegistry, JwtKeys.ephemeral());
+    }
+
+    @Autowired
+    public JwtUtils(ObservationRegistry observationRegistry, @Value("${jwt.keys-file:}") String keysFile) {
+        this(observationRegistry, keysFile.isBlank() ? JwtKeys.ephemeral() : JwtKeys.load(Path.of(keysFile)));
+    }
+
+    public JwtUtils(ObservationRegistry observationRegistry, JwtKeys keys) {
+        this.observationRegistry = observationRegistry;
+        this.keys = keys;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        var key = keys.get(header.getKeyId());
+                        if (key == null) {
+                            throw new SignatureException("Unknown signing key id '" + header.getKeyId() + "'");
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * @return a new access token
+     */
     public String generateTokenFromUsername(String username) {
+        return generate(username, ACCESS, inspirationMs);
+    }
+
+    public String generateRefreshToken(String username) {
+        return generate(username, REFRESH, refreshTokenMs);
+    }
+
+    /**
+     * The refresh token travels only as an HttpOnly cookie scoped to the auth endpoints, scripts never see it.
+     */
+    public ResponseCookie refreshCookie(String refreshToken) {
+        return refreshCookieBuilder(refreshToken)
+                .maxAge(Duration.ofMillis(refreshTokenMs))
+                .build();
+    }
+
+    public ResponseCookie clearedRefreshCookie() {
+        return refreshCookieBuilder("")
+                .maxAge(Duration.ZERO)
+                .build();
+    }
+
+    /**
+     * @return true for an access token with a known key and valid signature that has not expired
+     */
+    public boolean isJwtTokenValid(String token) {
+        return parseAccessToken(token).isPresent();
+    }
+
+    /**
+     * Every parse is timed as {@code jwt.validation}, tagged with the expected token type and the result.
+     *
+     * @return the claims of a valid access token
+     */
+    public Optional<Claims> parseAccessToken(String token) {
+        return parse(token, ACCESS);
+    }
+
+    /**
+     * @return the claims of a valid refresh token
+     */
+    public Optional<Claims> parseRefreshToken(String token) {
+        return parse(token, REFRESH);
+    }
+
+    public String getSubject(String token) {
+        isValidToken(token);
+
+        return parser.parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    /**
+     * @return the subject of a valid access token. Unlike {@link #isJwtTokenValid(String)} the check is neither
+     * timed nor logged, a bad token is just an empty result.
+     */
+    public Optional<String> findValidSubject(String token) {
+        return findValidClaims(token)
+                .filter(claims -> ACCESS.equals(claims.get(TYPE_CLAIM)))
+                .map(Claims::getSubject);
+    }
+
+    /**
+     * @return the claims of a valid token of any type, neither timed nor logged
+     */
+    public Optional<Claims> findValidClaims(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(parser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private ResponseCookie.ResponseCookieBuilder refreshCookieBuilder(String value) {
+        return ResponseCookie.from(REFRESH_COOKIE, value)
+                .httpOnly(true)
+                .secure(refreshCookieSecure)
+                .sameSite("Strict")
+                .path(REFRESH_COOKIE_PATH);
+    }
+
+    private String generate(String username, String type, long lifetimeMs) {
         if (username == null || username.trim().isEmpty()) {
             throw new InvalidTextException("Username must contain at least one letter");
         }
 
+        long now = System.currentTimeMillis();
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keys.activeKid())
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + inspirationMs))
-                .signWith(key, SignatureAlgorithm.HS512)
+                .claim(TYPE_CLAIM, type)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + lifetimeMs))
+                .signWith(keys.active(), SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    public boolean isJwtTokenValid(String token) {
+    private Optional<Claims> parse(String token, String type) {
         isValidToken(token);
 
+        var observation = Observation.start("jwt.validation", observationRegistry);
+        var result = "valid";
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            var claims = parser.parseClaimsJws(token).getBody();
+            if (!type.equals(claims.get(TYPE_CLAIM))) {
+                result = "wrong_type";
+                log.debug("JWT token is not a {} token", type);
+                return Optional.empty();
+            }
+            return Optional.of(claims);
         } catch (MalformedJwtException malformedJwtException) {
+            result = "malformed";
             log.error("Invalid JWT token: {}", malformedJwtException.getMessage());
         } catch (ExpiredJwtException expiredJwtException) {
+            result = "expired";
             log.error("JWT token is expired: {}", expiredJwtException.getMessage());
         } catch (UnsupportedJwtException unsupportedJwtException) {
+            result = "unsupported";
             log.error("JWT token is unsupported: {}", unsupportedJwtException.getMessage());
         } catch (IllegalArgumentException illegalArgumentException) {
+            result = "empty";
             log.error("JWT claims string is empty: {}", illegalArgumentException.getMessage());
         } catch (SignatureException signatureException) {
+            result = "invalid_signature";
             log.error("JWT signature does not match locally computed signature: {}", signatureException.getMessage());
+        } finally {
+            observation.lowCardinalityKeyValue("type", type)
+                    .lowCardinalityKeyValue("result", result)
+                    .stop();
         }
 
-        return false;
-    }
-
-    public String getSubject(String token) {
-        isValidToken(token);
-
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return Optional.empty();
     }
 
     private void isValidToken(String checking) {
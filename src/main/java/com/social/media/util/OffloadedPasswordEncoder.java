@@ -0,0 +1,104 @@
+package com.social.media.util;
+
+import com.social.media.exception.ServerBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the hashing and verification of the delegate (BCrypt) on a fixed pool with a bounded queue, so at most
+ * {@code threads} requests burn CPU on passwords while the others wait parked. When the queue is full the call fails
+ * at once with {@link ServerBusyException} instead of piling up request threads.
+ * <p>
+ * Meters: {@code password.encoder} times each call including its wait in the queue (tag {@code operation}),
+ * {@code password.encoder.rejected} counts rejections and {@code executor.*} describe the pool itself.
+ */
+public class OffloadedPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public OffloadedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+
+        var threadNumber = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    var thread = new Thread(runnable, "password-encoder-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "password-encoder");
+
+        this.encodeTimer = timer("encode", meterRegistry);
+        this.matchesTimer = timer("matches", meterRegistry);
+        this.rejected = Counter.builder("password.encoder.rejected")
+                .description("Password hashing or verification rejected because the queue was full")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Cheap, only reads the cost factor from the hash, so it runs on the calling thread.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private <T> T execute(Timer timer, Supplier<T> task) {
+        long start = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException exception) {
+            rejected.increment();
+            throw new ServerBusyException("Too many password checks in progress, please try again later!");
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the password encoder", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(exception.getCause());
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer timer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("password.encoder")
+                .description("Password hashing and verification including the wait for a free encoder thread")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
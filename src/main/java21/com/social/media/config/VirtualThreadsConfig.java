@@ -0,0 +1,38 @@
+package com.social.media.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs Tomcat request handling and the application task executor (seeding, background checks, MVC async)
+ * on virtual threads. Compiled only by the 'java21' Maven profile and switched on with threads.virtual.enabled.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(value = "threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer() {
+        log.info("Tomcat requests are handled on virtual threads.");
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor("http-virtual-"));
+    }
+
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(virtualThreadExecutor("task-virtual-"));
+    }
+
+    private static ExecutorService virtualThreadExecutor(String prefix) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 0).factory());
+    }
+}
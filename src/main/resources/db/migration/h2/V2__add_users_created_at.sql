@@ -0,0 +1,4 @@
+-- Admin listings filter users by their creation date. Existing users get the time of the migration.
+alter table users add column created_at timestamp(6) default current_timestamp not null;
+
+create index idx_users_created_at on users (created_at);
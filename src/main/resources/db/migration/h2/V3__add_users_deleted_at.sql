@@ -0,0 +1,2 @@
+-- Deleted users are hidden at once and purged with their content in the background, the row goes last.
+alter table users add column deleted_at timestamp(6);
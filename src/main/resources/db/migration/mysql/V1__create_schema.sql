@@ -0,0 +1,106 @@
+create table roles
+(
+    id   bigint       not null auto_increment,
+    name varchar(255) not null,
+    primary key (id),
+    constraint uk_roles_name unique (name)
+) engine = InnoDB;
+
+create table users
+(
+    id         bigint       not null auto_increment,
+    username   varchar(255) not null,
+    first_name varchar(255) not null,
+    last_name  varchar(255) not null,
+    email      varchar(255) not null,
+    password   varchar(255) not null,
+    role_id    bigint,
+    primary key (id),
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email),
+    constraint fk_users_role_id foreign key (role_id) references roles (id)
+) engine = InnoDB;
+
+create index idx_users_role_id on users (role_id);
+
+-- Timeline and profile pages read the posts of one owner, newest first.
+create table posts
+(
+    id          bigint       not null auto_increment,
+    owner_id    bigint,
+    timestamp   datetime(6)  not null,
+    description varchar(255) not null,
+    primary key (id),
+    constraint fk_posts_owner_id foreign key (owner_id) references users (id)
+) engine = InnoDB;
+
+create index idx_posts_owner_id_timestamp on posts (owner_id, timestamp);
+
+create table photos
+(
+    id      bigint         not null auto_increment,
+    post_id bigint,
+    file    varbinary(255) not null,
+    primary key (id),
+    constraint fk_photos_post_id foreign key (post_id) references posts (id)
+) engine = InnoDB;
+
+create index idx_photos_post_id on photos (post_id);
+
+-- Comments are read per post in the order they were written.
+create table comments
+(
+    id        bigint       not null auto_increment,
+    owner_id  bigint,
+    post_id   bigint,
+    timestamp datetime(6)  not null,
+    comment   varchar(255) not null,
+    primary key (id),
+    constraint fk_comments_owner_id foreign key (owner_id) references users (id),
+    constraint fk_comments_post_id foreign key (post_id) references posts (id)
+) engine = InnoDB;
+
+create index idx_comments_post_id_timestamp on comments (post_id, timestamp);
+create index idx_comments_owner_id on comments (owner_id);
+
+-- One like per user and post. The unique index also serves the likes of a post and the "already liked" check.
+create table likes
+(
+    id       bigint not null auto_increment,
+    owner_id bigint,
+    post_id  bigint,
+    primary key (id),
+    constraint uk_likes_post_id_owner_id unique (post_id, owner_id),
+    constraint fk_likes_owner_id foreign key (owner_id) references users (id),
+    constraint fk_likes_post_id foreign key (post_id) references posts (id)
+) engine = InnoDB;
+
+create index idx_likes_owner_id on likes (owner_id);
+
+-- One messenger per owner and recipient. The unique index also serves the messengers of an owner.
+create table messengers
+(
+    id           bigint not null auto_increment,
+    owner_id     bigint,
+    recipient_id bigint,
+    primary key (id),
+    constraint uk_messengers_owner_id_recipient_id unique (owner_id, recipient_id),
+    constraint fk_messengers_owner_id foreign key (owner_id) references users (id),
+    constraint fk_messengers_recipient_id foreign key (recipient_id) references users (id)
+) engine = InnoDB;
+
+create index idx_messengers_recipient_id on messengers (recipient_id);
+
+-- The unique index serves the followings of a user, the second one its followers.
+create table follows
+(
+    id          bigint not null auto_increment,
+    follower_id bigint,
+    followed_id bigint,
+    primary key (id),
+    constraint uk_follows_follower_id_followed_id unique (follower_id, followed_id),
+    constraint fk_follows_follower_id foreign key (follower_id) references users (id),
+    constraint fk_follows_followed_id foreign key (followed_id) references users (id)
+) engine = InnoDB;
+
+create index idx_follows_followed_id_follower_id on follows (followed_id, follower_id);
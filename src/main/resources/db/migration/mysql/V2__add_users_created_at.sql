@@ -0,0 +1,4 @@
+-- Admin listings filter users by their creation date. Existing users get the time of the migration.
+alter table users add column created_at datetime(6) not null default current_timestamp(6);
+
+create index idx_users_created_at on users (created_at);
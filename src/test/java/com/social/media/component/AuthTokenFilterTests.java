@@ -3,6 +3,7 @@ package com.social.media.component;
 import com.social.media.model.entity.User;
 import com.social.media.service.UserService;
 import com.social.media.util.JwtUtils;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -42,7 +43,7 @@ public class AuthTokenFilterTests {
     @Mock
     private FilterChain filterChain;
     @Spy
-    private JwtUtils jwtUtils;
+    private JwtUtils jwtUtils = new JwtUtils(ObservationRegistry.NOOP);
 
     private final AuthTokenFilter tokenFilter;
     private final UserService userService;
@@ -113,6 +114,18 @@ public class AuthTokenFilterTests {
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
 
+    @Test
+    public void test_Invalid_DeletedUser_doFilterInternal() throws ServletException, IOException {
+        String token = jwtUtils.generateTokenFromUsername("deleted.user");
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+
+        tokenFilter.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain, times(1)).doFilter(request, response);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
     @ParameterizedTest
     @MethodSource("provideInvalidHeaders")
     public void test_Invalid_Headers_doFilterInternal(String header) throws ServletException, IOException {
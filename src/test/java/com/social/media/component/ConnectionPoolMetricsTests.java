@@ -0,0 +1,50 @@
+package com.social.media.component;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConnectionPoolMetricsTests {
+    private HikariDataSource dataSource;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:pool-metrics");
+        dataSource.setPoolName("test-pool");
+        dataSource.setMaximumPoolSize(4);
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    public void test_Valid_Saturation() throws SQLException {
+        new ConnectionPoolMetrics(dataSource).bindTo(registry);
+        var gauge = registry.get("hikaricp.connections.saturation").tag("pool", "test-pool").gauge();
+
+        try (var first = dataSource.getConnection(); var second = dataSource.getConnection()) {
+            assertEquals(0.5, gauge.value(), 0.0001, "Two of four connections are in use.");
+        }
+        assertEquals(0.0, gauge.value(), 0.0001, "All connections are back in the pool.");
+    }
+
+    @Test
+    public void test_Invalid_NotHikari() {
+        new ConnectionPoolMetrics(new DriverManagerDataSource("jdbc:h2:mem:no-pool")).bindTo(registry);
+
+        assertNull(registry.find("hikaricp.connections.saturation").gauge(),
+                "Without a Hikari pool there is nothing to measure.");
+    }
+}
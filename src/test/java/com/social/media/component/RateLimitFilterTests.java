@@ -0,0 +1,100 @@
+package com.social.media.component;
+
+import com.social.media.config.RateLimitProperties;
+import com.social.media.config.RateLimitProperties.Key;
+import com.social.media.config.RateLimitProperties.Policy;
+import com.social.media.util.JwtUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateLimitFilterTests {
+    private SimpleMeterRegistry registry;
+    private JwtUtils jwtUtils;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        jwtUtils = new JwtUtils(ObservationRegistry.NOOP);
+        ReflectionTestUtils.setField(jwtUtils, "inspirationMs", 60_000L);
+
+        var policies = new LinkedHashMap<String, Policy>();
+        policies.put("write", new Policy("/api/**", List.of("POST"), 3, Duration.ofMinutes(1), Key.USER));
+        policies.put("login", new Policy("/api/auth/login/**", List.of("POST"), 1, Duration.ofMinutes(1), Key.IP));
+        filter = new RateLimitFilter(new RateLimitProperties(true, 100, policies), jwtUtils, registry);
+    }
+
+    @Test
+    public void test_Valid_MostSpecificPolicy() throws ServletException, IOException {
+        assertEquals(200, send("POST", "/api/auth/login/username", "10.0.0.1", null).getStatus(),
+                "First login must pass.");
+
+        var throttled = send("POST", "/api/auth/login/username", "10.0.0.1", null);
+        assertAll(
+                () -> assertEquals(429, throttled.getStatus(), "Second login must be limited by the login policy."),
+                () -> assertEquals("60", throttled.getHeader("Retry-After"), "Next login token comes in a minute."),
+                () -> assertEquals(1.0, registry.get("rate.limit.throttled").tag("policy", "login").counter().count(),
+                        "Throttled login must be counted."),
+                () -> assertEquals(200, send("POST", "/api/auth/login/username", "10.0.0.2", null).getStatus(),
+                        "Other clients have their own bucket.")
+        );
+    }
+
+    @Test
+    public void test_Valid_UnlimitedRequests() throws ServletException, IOException {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(200, send("GET", "/api/users", "10.0.0.1", null).getStatus(),
+                    "Requests without a policy must never be limited.");
+        }
+    }
+
+    @Test
+    public void test_Valid_UserKey() throws ServletException, IOException {
+        var token = jwtUtils.generateTokenFromUsername("skallet24");
+        for (int i = 0; i < 3; i++) {
+            send("POST", "/api/users/1/posts", "10.0.0.1", token);
+        }
+
+        assertAll(
+                () -> assertEquals(429, send("POST", "/api/users/1/posts", "10.0.0.2", token).getStatus(),
+                        "Requests of one user share the bucket from any address."),
+                () -> assertEquals(200, send("POST", "/api/users/1/posts", "10.0.0.1", null).getStatus(),
+                        "Anonymous requests are limited by their address.")
+        );
+    }
+
+    @Test
+    public void test_Valid_Disabled() throws ServletException, IOException {
+        filter = new RateLimitFilter(new RateLimitProperties(false, 100, new LinkedHashMap<>()), jwtUtils, new SimpleMeterRegistry());
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(200, send("POST", "/api/auth/login/username", "10.0.0.1", null).getStatus(),
+                    "Disabled rate limits must pass every request.");
+        }
+    }
+
+    private MockHttpServletResponse send(String method, String uri, String address, String token) throws ServletException, IOException {
+        var request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(address);
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
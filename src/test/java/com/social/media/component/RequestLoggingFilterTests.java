@@ -0,0 +1,27 @@
+package com.social.media.component;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestLoggingFilterTests {
+
+    @Test
+    public void test_Valid_IsLogged_Sampled() {
+        var filter = new RequestLoggingFilter(0.0, 1000);
+
+        assertFalse(filter.isLogged(200, 5), "Fast successful requests are sampled out.");
+        assertFalse(filter.isLogged(404, 5), "Client errors are sampled like other requests.");
+        assertTrue(filter.isLogged(500, 5), "Server errors are always logged.");
+        assertTrue(filter.isLogged(200, 1000), "Slow requests are always logged.");
+    }
+
+    @Test
+    public void test_Valid_IsLogged_All() {
+        var filter = new RequestLoggingFilter(1.0, 1000);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(filter.isLogged(200, 5), "Every request is logged with the full sample rate.");
+        }
+    }
+}
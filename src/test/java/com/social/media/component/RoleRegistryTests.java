@@ -0,0 +1,72 @@
+package com.social.media.component;
+
+import com.social.media.component.RoleRegistry.RegisteredRole;
+import com.social.media.model.entity.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RoleRegistryTests {
+    private RoleRegistry registry;
+    private Role admin;
+    private Role user;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new RoleRegistry();
+        admin = role(1L, "ADMIN");
+        user = role(2L, "USER");
+        registry.replaceAll(List.of(admin, user));
+    }
+
+    @Test
+    public void test_Valid_Find() {
+        assertEquals(Optional.of(new RegisteredRole(2L, "USER")), registry.findByName("USER"), "Role must be found by its name.");
+        assertEquals(Optional.of(new RegisteredRole(1L, "ADMIN")), registry.findById(1L), "Role must be found by its id.");
+    }
+
+    @Test
+    public void test_Valid_Find_Snapshot() {
+        user.setName("CHANGED");
+
+        assertEquals(Optional.of(new RegisteredRole(2L, "USER")), registry.findByName("USER"),
+                "Changing the loaded entity must not change the registered role.");
+        assertTrue(registry.findByName("CHANGED").isEmpty(), "Registered roles must only change with a swap.");
+    }
+
+    @Test
+    public void test_Valid_IsAdmin() {
+        assertTrue(registry.isAdmin(role(1L, "ADMIN")), "Role with the id of 'ADMIN' must be admin.");
+        assertFalse(registry.isAdmin(user), "'USER' must not be admin.");
+        assertFalse(registry.isAdmin(null), "User without role must not be admin.");
+    }
+
+    @Test
+    public void test_Valid_ReplaceAll() {
+        var reader = role(3L, "READER");
+        registry.replaceAll(List.of(admin, reader));
+
+        assertEquals(Optional.of(new RegisteredRole(3L, "READER")), registry.findByName("READER"),
+                "New role must be found after the swap.");
+        assertTrue(registry.findByName("USER").isEmpty(), "Removed role must not be found after the swap.");
+        assertTrue(registry.findById(2L).isEmpty(), "Removed role must not be found after the swap.");
+    }
+
+    @Test
+    public void test_Invalid_Find() {
+        assertTrue(registry.findByName("NOT_FOUND").isEmpty(), "Unknown role name must not be found.");
+        assertTrue(registry.findById(0L).isEmpty(), "Unknown role id must not be found.");
+        assertFalse(new RoleRegistry().isAdmin(admin), "Nobody is admin before the roles are loaded.");
+    }
+
+    private static Role role(long id, String name) {
+        var role = new Role();
+        role.setId(id);
+        role.setName(name);
+        return role;
+    }
+}
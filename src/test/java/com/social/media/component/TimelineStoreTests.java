@@ -0,0 +1,111 @@
+package com.social.media.component;
+
+import com.social.media.component.TimelineStore.Entry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimelineStoreTests {
+    private TimelineStore store;
+
+    @BeforeEach
+    public void setUp() {
+        store = new TimelineStore(3, 100, Duration.ofHours(1));
+        store.materialize(1L, List::of);
+    }
+
+    @Test
+    public void test_Valid_Read_NewestFirst() {
+        store.push(1L, new Entry(2L, 10L, 200L));
+        store.push(1L, new Entry(1L, 10L, 100L));
+        store.push(1L, new Entry(3L, 11L, 300L));
+
+        assertEquals(List.of(3L, 2L, 1L), postIds(store.read(1L, 10)),
+                "Entries must be read from newest to oldest, whatever the order they were pushed in.");
+        assertEquals(List.of(3L), postIds(store.read(1L, 1)),
+                "Only the requested number of entries must be read.");
+    }
+
+    @Test
+    public void test_Valid_Push_EvictsOldest() {
+        for (long i = 1; i <= 5; i++) {
+            store.push(1L, new Entry(i, 10L, i * 100));
+        }
+        store.push(1L, new Entry(6L, 10L, 50L));
+
+        assertEquals(List.of(5L, 4L, 3L), postIds(store.read(1L, 10)),
+                "Full timeline must keep only the newest entries.");
+    }
+
+    @Test
+    public void test_Valid_Push_IgnoresDuplicate() {
+        store.push(1L, new Entry(1L, 10L, 100L));
+        store.push(1L, new Entry(1L, 10L, 100L));
+
+        assertEquals(List.of(1L), postIds(store.read(1L, 10)),
+                "The same post must be stored only once.");
+    }
+
+    @Test
+    public void test_Valid_RemoveAuthor() {
+        store.push(1L, new Entry(1L, 10L, 100L));
+        store.push(1L, new Entry(2L, 11L, 200L));
+        store.push(1L, new Entry(3L, 10L, 300L));
+
+        store.removeAuthor(1L, 10L);
+
+        assertEquals(List.of(2L), postIds(store.read(1L, 10)),
+                "After removing author his posts must not be in the timeline.");
+    }
+
+    @Test
+    public void test_Invalid_Push_NotMaterialized() {
+        store.push(2L, new Entry(1L, 10L, 100L));
+
+        assertFalse(store.contains(2L),
+                "Pushing must not create timelines, they are materialized on read.");
+        assertTrue(store.read(2L, 10).isEmpty(),
+                "Not materialized timeline must be read as empty.");
+    }
+
+    @Test
+    public void test_Valid_Push_GrowsUpToCapacity() {
+        var largeStore = new TimelineStore(40, 100, Duration.ofHours(1));
+        largeStore.materialize(1L, List::of);
+        for (long i = 1; i <= 50; i++) {
+            largeStore.push(1L, new Entry(i, 10L, i * 100));
+        }
+
+        assertEquals(LongStream.iterate(50, i -> i - 1).limit(40).boxed().toList(), postIds(largeStore.read(1L, 100)),
+                "Timeline must grow past its initial size and then keep only the newest entries up to capacity.");
+    }
+
+    @Test
+    public void test_Valid_Materialize_BoundedNumberOfTimelines() {
+        var boundedStore = new TimelineStore(3, 2, Duration.ofHours(1));
+        for (long userId = 1; userId <= 10; userId++) {
+            boundedStore.materialize(userId, List::of);
+        }
+
+        assertTrue(LongStream.rangeClosed(1, 10).filter(boundedStore::contains).count() <= 2,
+                "No more timelines than the configured maximum must be kept.");
+    }
+
+    @Test
+    public void test_Valid_Read_ExpiredAfterAccess() {
+        var expiringStore = new TimelineStore(3, 100, Duration.ZERO);
+        expiringStore.materialize(1L, List::of);
+
+        assertFalse(expiringStore.contains(1L),
+                "Timeline not accessed within the expiry must be dropped.");
+    }
+
+    private List<Long> postIds(List<Entry> entries) {
+        return entries.stream().map(Entry::postId).toList();
+    }
+}
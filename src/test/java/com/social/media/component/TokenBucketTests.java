@@ -0,0 +1,49 @@
+package com.social.media.component;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketTests {
+
+    @Test
+    public void test_Valid_TryConsume_Burst() {
+        var bucket = new TokenBucket(3, Duration.ofSeconds(3), 0);
+
+        assertAll(
+                () -> assertEquals(0, bucket.tryConsume(0), "First token of a full bucket must be taken."),
+                () -> assertEquals(0, bucket.tryConsume(0), "Second token of a full bucket must be taken."),
+                () -> assertEquals(0, bucket.tryConsume(0), "Third token of a full bucket must be taken.")
+        );
+    }
+
+    @Test
+    public void test_Invalid_TryConsume_Empty() {
+        var bucket = new TokenBucket(1, Duration.ofSeconds(2), 0);
+        bucket.tryConsume(0);
+
+        assertAll(
+                () -> assertEquals(TimeUnit.SECONDS.toNanos(2), bucket.tryConsume(0),
+                        "Empty bucket must report the time until the next token."),
+                () -> assertEquals(TimeUnit.SECONDS.toNanos(1), bucket.tryConsume(TimeUnit.SECONDS.toNanos(1)),
+                        "Half refilled bucket must report the remaining time."),
+                () -> assertEquals(0, bucket.tryConsume(TimeUnit.SECONDS.toNanos(2)),
+                        "Refilled token must be taken.")
+        );
+    }
+
+    @Test
+    public void test_Valid_TryConsume_RefillCappedAtCapacity() {
+        var bucket = new TokenBucket(2, Duration.ofSeconds(1), 0);
+        long later = TimeUnit.MINUTES.toNanos(10);
+
+        assertAll(
+                () -> assertEquals(0, bucket.tryConsume(later), "First token must be taken."),
+                () -> assertEquals(0, bucket.tryConsume(later), "Second token must be taken."),
+                () -> assertTrue(bucket.tryConsume(later) > 0, "Bucket must not refill above its capacity.")
+        );
+    }
+}
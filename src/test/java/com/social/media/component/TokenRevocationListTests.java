@@ -0,0 +1,93 @@
+package com.social.media.component;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenRevocationListTests {
+
+    @Test
+    public void test_Valid_Revoke() {
+        var revocationList = new TokenRevocationList(100, new SimpleMeterRegistry());
+
+        assertTrue(revocationList.revoke("revoked", System.currentTimeMillis() + 60000), "First revocation must win.");
+
+        assertAll(
+                () -> assertFalse(revocationList.revoke("revoked", System.currentTimeMillis() + 60000),
+                        "Revoking an already revoked token id must lose."),
+                () -> assertFalse(revocationList.revoke("expired", System.currentTimeMillis() - 1),
+                        "Expired token needs no revocation."),
+                () -> assertFalse(revocationList.revoke(null, System.currentTimeMillis() + 60000),
+                        "Token without id cannot be revoked."),
+                () -> assertTrue(revocationList.isRevoked("revoked"), "Revoked token id must be reported."),
+                () -> assertFalse(revocationList.isRevoked("other"), "Other token ids must stay valid."),
+                () -> assertFalse(revocationList.isRevoked(null), "Token without id cannot be revoked.")
+        );
+    }
+
+    @Test
+    public void test_Valid_Revoke_Many() {
+        var revocationList = new TokenRevocationList(10, new SimpleMeterRegistry());
+        long expiresAt = System.currentTimeMillis() + 60000;
+
+        for (int i = 0; i < 1000; i++) {
+            revocationList.revoke("revoked-" + i, expiresAt);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(revocationList.isRevoked("revoked-" + i), "Every revoked id must be reported past the expected size.");
+            assertFalse(revocationList.isRevoked("valid-" + i), "Bloom filter hits must be decided by the exact set.");
+        }
+    }
+
+    @Test
+    public void test_Valid_PurgeExpired() throws InterruptedException {
+        var revocationList = new TokenRevocationList(100, new SimpleMeterRegistry());
+        revocationList.revoke("short", System.currentTimeMillis() + 20);
+        revocationList.revoke("long", System.currentTimeMillis() + 60000);
+        revocationList.revoke("expired", System.currentTimeMillis() - 1);
+
+        Thread.sleep(50);
+        revocationList.purgeExpired();
+
+        assertAll(
+                () -> assertEquals(1, revocationList.size(), "Only the unexpired entry must be kept."),
+                () -> assertTrue(revocationList.isRevoked("long"), "Unexpired entry must survive the rebuilt filter."),
+                () -> assertFalse(revocationList.isRevoked("short"), "Expired entry must be purged.")
+        );
+    }
+
+    @Test
+    public void test_Valid_Revoke_Concurrent() throws InterruptedException {
+        var revocationList = new TokenRevocationList(100, new SimpleMeterRegistry());
+        long expiresAt = System.currentTimeMillis() + 60000;
+        int threads = 8;
+        var start = new CountDownLatch(1);
+        var winners = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(threads);
+
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    if (revocationList.revoke("shared", expiresAt)) {
+                        winners.incrementAndGet();
+                    }
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS), "Revocations must finish.");
+        assertEquals(1, winners.get(), "Exactly one concurrent revocation of the same token id must win.");
+    }
+}
@@ -0,0 +1,101 @@
+package com.social.media.component;
+
+import com.social.media.component.UserAutocompleteIndex.Suggestion;
+import com.social.media.model.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserAutocompleteIndexTests {
+    private UserAutocompleteIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new UserAutocompleteIndex();
+        index.put(user(1L, "oil", "Olivia", "Jones"));
+        index.put(user(2L, "garry.potter", "Garry", "Thomas"));
+        index.put(user(3L, "skallet24", "Garry", "Jones"));
+        index.put(user(4L, "olive", "Oliver", "Smith"));
+    }
+
+    @Test
+    public void test_Valid_Suggest() {
+        assertEquals(List.of(4L, 1L), ids(index.suggest("oli", 10)),
+                "Users must be matched by the username or the first name, in alphabetical order of the matched key.");
+        assertEquals(List.of(1L, 3L), ids(index.suggest("JON", 10)),
+                "Users must be matched by the last name, whatever the letter case.");
+        assertEquals(List.of(3L, 2L), ids(index.suggest("garry", 10)),
+                "Users with the same first name must all be found.");
+        assertEquals(List.of(3L), ids(index.suggest("garry j", 10)),
+                "Users must be matched by the full name.");
+        assertEquals(1, index.suggest("o", 1).size(),
+                "Only the requested number of users must be returned.");
+    }
+
+    @Test
+    public void test_Valid_Suggest_Order() {
+        index.put(user(5L, "annabel", "Xena", "Young"));
+        index.put(user(6L, "ann", "Yara", "Young"));
+        index.put(user(7L, "anb", "Zoe", "Young"));
+
+        assertEquals(List.of(7L, 6L, 5L), ids(index.suggest("an", 10)),
+                "Users must be suggested in alphabetical order of the matched key.");
+        assertEquals(List.of(6L, 5L), ids(index.suggest("ann", 10)),
+                "Exact match must come before the longer keys it is a prefix of.");
+    }
+
+    @Test
+    public void test_Valid_Put_Update() {
+        index.put(user(1L, "oil", "Olivia", "Brown"));
+
+        assertEquals(List.of(3L), ids(index.suggest("jones", 10)),
+                "Updated user must not be matched by the old name.");
+        assertEquals(List.of(1L), ids(index.suggest("brown", 10)),
+                "Updated user must be matched by the new name.");
+        assertEquals(4, index.size(), "Update must not add a user.");
+    }
+
+    @Test
+    public void test_Valid_Remove() {
+        index.remove(4L);
+        index.remove(1L);
+
+        assertTrue(index.suggest("oli", 10).isEmpty(), "Removed users must not be suggested.");
+        assertEquals(List.of(3L, 2L), ids(index.suggest("g", 10)),
+                "Removing users must keep the other users reachable.");
+    }
+
+    @Test
+    public void test_Valid_ReplaceAll() {
+        index.replaceAll(List.of(new Suggestion(5L, "new", "Anna", "Kovalenko")));
+
+        assertEquals(1, index.size(), "Replace must drop the previous users.");
+        assertTrue(index.suggest("garry", 10).isEmpty(), "Replace must drop the previous users.");
+        assertEquals(List.of(5L), ids(index.suggest("kov", 10)), "Replaced users must be suggested.");
+    }
+
+    @Test
+    public void test_Invalid_Suggest() {
+        assertTrue(index.suggest("olx", 10).isEmpty(), "Prefix that matches no user must return nothing.");
+        assertTrue(index.suggest("olivia jonesx", 10).isEmpty(), "Prefix longer than any key must return nothing.");
+        assertTrue(index.suggest("oli", 0).isEmpty(), "Zero limit must return nothing.");
+    }
+
+    private static User user(long id, String username, String firstName, String lastName) {
+        var user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        return user;
+    }
+
+    private static List<Long> ids(List<Suggestion> suggestions) {
+        return suggestions.stream()
+                .map(Suggestion::id)
+                .toList();
+    }
+}
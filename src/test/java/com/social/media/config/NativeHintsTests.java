@@ -0,0 +1,70 @@
+package com.social.media.config;
+
+import com.social.media.model.entity.Photo;
+import com.social.media.model.entity.User;
+import io.minio.messages.Bucket;
+import io.minio.messages.ListAllMyBucketsResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NativeHintsTests {
+    private RuntimeHints hints;
+
+    @BeforeEach
+    public void registerHints() {
+        hints = new RuntimeHints();
+        new NativeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    public void test_Valid_EntitiesAndMappers() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(User.class).test(hints),
+                "Entities must be registered for reflection.");
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Photo.class).test(hints),
+                "Entities must be registered for reflection.");
+        assertTrue(RuntimeHintsPredicates.reflection()
+                        .onType(TypeReference.of("com.social.media.model.mapper.PostMapperImpl")).test(hints),
+                "Generated MapStruct mappers must be registered for reflection.");
+        assertTrue(RuntimeHintsPredicates.reflection()
+                        .onType(TypeReference.of("com.social.media.model.mapper.UserMapperImpl")).test(hints),
+                "Generated MapStruct mappers must be registered for reflection.");
+        assertTrue(RuntimeHintsPredicates.reflection()
+                        .onType(TypeReference.of("com.social.media.model.mapper.MessengerMapperImpl")).test(hints),
+                "Generated MapStruct mappers must be registered for reflection.");
+    }
+
+    @Test
+    public void test_Valid_LibraryTypes() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                        .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtBuilder")).test(hints),
+                "JJWT loads its implementation by name, so it must be registered.");
+        assertTrue(RuntimeHintsPredicates.reflection().onType(ListAllMyBucketsResult.class).test(hints),
+                "MinIO XML messages must be registered for reflection.");
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Bucket.class).test(hints),
+                "MinIO XML messages must be registered for reflection.");
+        assertTrue(RuntimeHintsPredicates.serialization().onType(File.class).test(hints),
+                "Photo stores java.io.File serialized, so it must be registered for serialization.");
+    }
+
+    @Test
+    public void test_Valid_MigrationScripts() {
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/migration/mysql/V1__create_schema.sql").test(hints),
+                "Flyway scans the vendor folders at runtime, so the scripts must be included in the image.");
+        assertTrue(RuntimeHintsPredicates.resource().forResource("db/migration/h2/V1__create_schema.sql").test(hints),
+                "Flyway scans the vendor folders at runtime, so the scripts must be included in the image.");
+    }
+
+    @Test
+    public void test_Invalid_NotRegisteredType() {
+        assertFalse(RuntimeHintsPredicates.reflection().onType(NativeHintsTests.class).test(hints),
+                "Only types reached by reflection should be registered.");
+    }
+}
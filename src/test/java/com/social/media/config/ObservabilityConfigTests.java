@@ -0,0 +1,156 @@
+package com.social.media.config;
+
+import com.social.media.util.JwtUtils;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.annotation.Observed;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ObservabilityConfigTests {
+    private SimpleMeterRegistry registry;
+    private List<SpanData> spans;
+    private ObservationRegistry observationRegistry;
+    private JwtUtils jwtUtils;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(registry));
+
+        spans = new CopyOnWriteArrayList<>();
+        var tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new CollectingSpanExporter(spans)))
+                .build();
+        var tracer = new OtelTracer(tracerProvider.get("test"), new OtelCurrentTraceContext(), event -> {
+        });
+        observationRegistry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+
+        jwtUtils = new JwtUtils(observationRegistry);
+        ReflectionTestUtils.setField(jwtUtils, "inspirationMs", 60_000L);
+        ReflectionTestUtils.setField(jwtUtils, "refreshTokenMs", 60_000L);
+    }
+
+    @Test
+    public void test_Valid_ObservedTimer() {
+        observed().find();
+
+        assertEquals(1, registry.get("social.service")
+                        .tags(Tags.of("class", ObservedTarget.class.getName(), "method", "find"))
+                        .timer().count(),
+                "Calls of an @Observed bean must be timed with its class and method.");
+    }
+
+    @Test
+    public void test_Valid_JwtValidationTimer() {
+        var access = jwtUtils.generateTokenFromUsername("skallet24");
+
+        assertTrue(jwtUtils.parseAccessToken(access).isPresent(), "Access token must be valid as access token.");
+        assertTrue(jwtUtils.parseRefreshToken(access).isEmpty(), "Access token must not pass as refresh token.");
+        assertTrue(jwtUtils.parseAccessToken("not.a.token").isEmpty(), "Malformed token must not be valid.");
+
+        assertAll(
+                () -> assertEquals(1, jwtTimerCount(JwtUtils.ACCESS, "valid"),
+                        "Valid access token must be timed as valid."),
+                () -> assertEquals(1, jwtTimerCount(JwtUtils.REFRESH, "wrong_type"),
+                        "Access token parsed as refresh token must be timed as wrong type."),
+                () -> assertEquals(1, jwtTimerCount(JwtUtils.ACCESS, "malformed"),
+                        "Malformed token must be timed as malformed.")
+        );
+    }
+
+    @Test
+    public void test_Valid_Spans() {
+        var access = jwtUtils.generateTokenFromUsername("skallet24");
+
+        Observation.createNotStarted("http.server.requests", observationRegistry)
+                .observe(() -> {
+                    observed().find();
+                    jwtUtils.parseAccessToken(access);
+                });
+
+        var request = span("http.server.requests");
+        var service = span("observed-target#find");
+        var jwt = span("jwt.validation");
+        assertAll(
+                () -> assertEquals(ObservedTarget.class.getName(), service.getAttributes().get(AttributeKey.stringKey("class")),
+                        "Span of an @Observed bean must carry its class."),
+                () -> assertEquals("find", service.getAttributes().get(AttributeKey.stringKey("method")),
+                        "Span of an @Observed bean must carry its method."),
+                () -> assertEquals(JwtUtils.ACCESS, jwt.getAttributes().get(AttributeKey.stringKey("type")),
+                        "JWT span must carry the token type."),
+                () -> assertEquals("valid", jwt.getAttributes().get(AttributeKey.stringKey("result")),
+                        "JWT span must carry the result."),
+                () -> assertEquals(request.getSpanId(), service.getParentSpanId(),
+                        "Service span must be a child of the request span."),
+                () -> assertEquals(request.getSpanId(), jwt.getParentSpanId(),
+                        "JWT span must be a child of the request span."),
+                () -> assertEquals(request.getTraceId(), jwt.getTraceId(),
+                        "All spans of one request must share the trace.")
+        );
+    }
+
+    private SpanData span(String name) {
+        return spans.stream()
+                .filter(span -> span.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No span named " + name + " in " + spans));
+    }
+
+    private long jwtTimerCount(String type, String result) {
+        return registry.get("jwt.validation").tags("type", type, "result", result).timer().count();
+    }
+
+    private ObservedTarget observed() {
+        var factory = new AspectJProxyFactory(new ObservedTarget());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ObservabilityConfig().observedAspect(observationRegistry));
+        return factory.getProxy();
+    }
+
+    private record CollectingSpanExporter(List<SpanData> spans) implements SpanExporter {
+        @Override
+        public CompletableResultCode export(Collection<SpanData> exported) {
+            spans.addAll(exported);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+
+    @Observed(name = "social.service")
+    public static class ObservedTarget {
+        public String find() {
+            return "found";
+        }
+    }
+}
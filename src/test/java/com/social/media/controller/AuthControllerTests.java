@@ -7,6 +7,8 @@ import com.social.media.model.dto.user.UserResponse;
 import com.social.media.model.entity.User;
 import com.social.media.model.mapper.UserMapper;
 import com.social.media.service.RoleService;
+import com.social.media.util.JwtUtils;
+import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -16,12 +18,20 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static com.social.media.controller.StaticHelperForMVC.asJsonString;
 import static com.social.media.controller.StaticHelperForMVC.createUser;
 import static org.assertj.core.api.AssertionsForClassTypes.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Transactional
@@ -148,4 +158,101 @@ public class AuthControllerTests {
                         "This test must be equal, substring for not same id`s, because we create user in this url, so he has not 0 id.")
                 );
     }
+
+    @Test
+    public void test_Valid_Refresh() throws Exception {
+        var refreshCookie = mvc.perform(post("/api/auth/login/username")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(
+                                asJsonString(new LoginRequestWithUsername("oil", "3333"))
+                        )
+                )
+                .andExpect(status().isOk())
+                .andExpect(cookie().httpOnly(JwtUtils.REFRESH_COOKIE, true))
+                .andReturn()
+                .getResponse()
+                .getCookie(JwtUtils.REFRESH_COOKIE);
+
+        mvc.perform(post("/api/auth/refresh").cookie(refreshCookie))
+                .andExpect(status().isOk())
+                .andExpect(cookie().exists(JwtUtils.REFRESH_COOKIE))
+                .andExpect(result -> assertThat(result.getResponse().getContentAsString()).isNotEmpty());
+
+        mvc.perform(post("/api/auth/refresh").cookie(refreshCookie))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void test_Invalid_Refresh_Concurrent() throws Exception {
+        var refreshCookie = mvc.perform(post("/api/auth/login/username")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(
+                                asJsonString(new LoginRequestWithUsername("oil", "3333"))
+                        )
+                )
+                .andReturn()
+                .getResponse()
+                .getCookie(JwtUtils.REFRESH_COOKIE);
+
+        var start = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(4);
+        var statuses = new ArrayList<Future<Integer>>();
+        for (int i = 0; i < 4; i++) {
+            statuses.add(executor.submit(() -> {
+                start.await();
+                return mvc.perform(post("/api/auth/refresh").cookie(refreshCookie))
+                        .andReturn()
+                        .getResponse()
+                        .getStatus();
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+
+        var results = new ArrayList<Integer>();
+        for (var status : statuses) {
+            results.add(status.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, results.stream().filter(status -> status == 200).count(),
+                "Only one of concurrent refreshes with the same token must get new tokens.");
+        assertEquals(3, results.stream().filter(status -> status == 401).count(),
+                "The other concurrent refreshes must be rejected.");
+    }
+
+    @Test
+    public void test_Invalid_Refresh() throws Exception {
+        mvc.perform(post("/api/auth/refresh"))
+                .andExpect(status().isUnauthorized());
+
+        mvc.perform(post("/api/auth/refresh").cookie(new Cookie(JwtUtils.REFRESH_COOKIE, "invalid.refresh.token")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void test_Valid_Logout() throws Exception {
+        var response = mvc.perform(post("/api/auth/login/username")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(
+                                asJsonString(new LoginRequestWithUsername("oil", "3333"))
+                        )
+                )
+                .andReturn()
+                .getResponse();
+        var token = response.getContentAsString();
+
+        mvc.perform(get("/api/posts/trending").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + token)
+                        .cookie(response.getCookie(JwtUtils.REFRESH_COOKIE))
+                )
+                .andExpect(status().isNoContent())
+                .andExpect(cookie().maxAge(JwtUtils.REFRESH_COOKIE, 0));
+
+        mvc.perform(get("/api/posts/trending").header("Authorization", "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+        mvc.perform(post("/api/auth/refresh").cookie(response.getCookie(JwtUtils.REFRESH_COOKIE)))
+                .andExpect(status().isUnauthorized());
+    }
 }
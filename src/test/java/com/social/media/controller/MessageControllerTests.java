@@ -24,6 +24,8 @@ import static com.social.media.controller.StaticHelperForMVC.asJsonString;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Transactional
@@ -94,6 +96,37 @@ public class MessageControllerTests {
                 );
     }
 
+    @Test
+    public void test_Valid_StreamAllMessages_AdminAuth() throws Exception {
+        long ownerId = 1L;
+        long messengerId = 2L;
+        String expected = messageService.getAllByMessenger(messengerId)
+                .stream()
+                .map(mapper::createMessageResponseFromMessage)
+                .map(message -> asJsonString(message) + "\n")
+                .reduce("", String::concat);
+
+        var started = mvc.perform(get(BASE_URL + "/stream", ownerId, messengerId)
+                        .header("Authorization", "Bearer " + tokenAdmin)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(result -> assertEquals(expected, result.getResponse().getContentAsString(),
+                        "Every message of the messenger must be written as one JSON line."));
+    }
+
+    @Test
+    public void test_Invalid_StreamAllMessages_UserAuth_UserNotOwnerOfMessenger() throws Exception {
+        mvc.perform(get(BASE_URL + "/stream", 2L, 5L)
+                        .header("Authorization", "Bearer " + tokenUser)
+                )
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     public void test_Invalid_DeleteMessenger_AdminAuth_UsersIsNotSame() throws Exception {
         long ownerId = 3L;
@@ -24,6 +24,8 @@ import static com.social.media.controller.StaticHelperForMVC.asJsonString;
 import static org.assertj.core.api.AssertionsForClassTypes.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Transactional
@@ -123,6 +125,30 @@ public class PostControllerTests {
                 );
     }
 
+    @Test
+    public void test_Valid_StreamAllPosts_AdminAuth() throws Exception {
+        var started = mvc.perform(get(BASE_URL + "/posts/stream")
+                        .header("Authorization", "Bearer " + tokenAdmin)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(result -> assertEquals(postService.getAll().size(),
+                        result.getResponse().getContentAsString().lines().count(),
+                        "Every post must be written as one JSON line."));
+    }
+
+    @Test
+    public void test_Invalid_StreamAllPosts_UserAuth() throws Exception {
+        mvc.perform(get(BASE_URL + "/posts/stream")
+                        .header("Authorization", "Bearer " + tokenUser)
+                )
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     public void test_Valid_GetUserPost_AdminAuth() throws Exception {
         testValidGetUserPost(2L, 3L, tokenAdmin);
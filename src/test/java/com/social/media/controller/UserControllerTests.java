@@ -21,6 +21,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Random;
 import java.util.stream.Stream;
@@ -30,7 +31,7 @@ import static com.social.media.controller.StaticHelperForMVC.createUser;
 import static org.assertj.core.api.AssertionsForClassTypes.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @Transactional
 @AutoConfigureMockMvc
@@ -100,6 +101,74 @@ public class UserControllerTests {
                 );
     }
 
+    @Test
+    public void test_Valid_GetUsersPage_AdminAuthorization() throws Exception {
+        int expectedTotal = userService.getAllByRole("USER").size();
+
+        mvc.perform(get(BASE_URL + "/page")
+                        .param("role", "USER")
+                        .param("size", "1")
+                        .header("Authorization", "Bearer " + tokenAdmin)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].role").value("USER"))
+                .andExpect(jsonPath("$.totalElements").value(expectedTotal));
+    }
+
+    @Test
+    public void test_Valid_StreamUsers_AdminAuthorization() throws Exception {
+        String firstName = "Garry";
+
+        List<UserResponse> expected = userService.getAllByFirstName(firstName)
+                .stream()
+                .map(mapper::createUserResponseFromUser)
+                .toList();
+
+        var started = mvc.perform(get(BASE_URL + "/stream")
+                        .param("firstName", firstName)
+                        .header("Authorization", "Bearer " + tokenAdmin)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(Duration.ofMinutes(10).toMillis(), started.getRequest().getAsyncContext().getTimeout(),
+                "Streamed listing must get its own async timeout.");
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(result -> assertEquals(
+                        expected.stream().map(StaticHelperForMVC::asJsonString).map(json -> json + "\n").reduce("", String::concat),
+                        result.getResponse().getContentAsString(),
+                        "Every matching user must be written as one JSON line."));
+    }
+
+    @Test
+    public void test_Valid_ExportUsersCsv_AdminAuthorization() throws Exception {
+        var started = mvc.perform(get(BASE_URL + "/csv")
+                        .param("createdFrom", "2000-01-01T00:00:00")
+                        .header("Authorization", "Bearer " + tokenAdmin)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(result -> assertEquals(userService.getAll().size() + 1,
+                        result.getResponse().getContentAsString().split("\r\n").length,
+                        "CSV must have the header and one row per user."))
+                .andExpect(result -> assertThat(result.getResponse().getContentAsString())
+                        .startsWith("id,username,first_name,last_name,email,role"));
+    }
+
+    @Test
+    public void test_Invalid_StreamUsers_UserAuthorization() throws Exception {
+        mvc.perform(get(BASE_URL + "/stream")
+                        .header("Authorization", "Bearer " + tokenUser)
+                )
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     public void test_Invalid_GetAllUsers_UserAuthorization() throws Exception {
         mvc.perform(get(BASE_URL)
@@ -1163,4 +1232,20 @@ public class UserControllerTests {
         assertEquals(userService.getAll(), users,
                 "Users lists must be equals, because we did not delete anyone!");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void test_Invalid_GetDeletionProgress_NoDeletion() throws Exception {
+        mvc.perform(get(BASE_URL + "/{id}/deletion", 1L)
+                        .header("Authorization", "Bearer " + tokenAdmin)
+                )
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void test_Invalid_GetDeletionProgress_UserAuthorization() throws Exception {
+        mvc.perform(get(BASE_URL + "/{id}/deletion", 2L)
+                        .header("Authorization", "Bearer " + tokenUser)
+                )
+                .andExpect(status().isForbidden());
+    }
+}
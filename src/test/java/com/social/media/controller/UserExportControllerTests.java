@@ -0,0 +1,99 @@
+package com.social.media.controller;
+
+import com.social.media.model.dto.auth.LoginRequestWithEmail;
+import com.social.media.model.dto.auth.LoginRequestWithUsername;
+import com.social.media.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static com.social.media.controller.StaticHelperForMVC.asJsonString;
+import static org.assertj.core.api.AssertionsForClassTypes.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+public class UserExportControllerTests {
+    private static final String BASE_URL = "/api/users/{id}/export";
+
+    private final MockMvc mvc;
+    private final UserService userService;
+
+    private String tokenAdmin;
+    private String tokenUser;
+
+    @Autowired
+    public UserExportControllerTests(MockMvc mvc, UserService userService) {
+        this.mvc = mvc;
+        this.userService = userService;
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tokenAdmin = mvc.perform(post("/api/auth/login/username")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                        asJsonString(new LoginRequestWithUsername("skallet24", "1111"))
+                )
+        ).andReturn().getResponse().getContentAsString();
+
+        tokenUser = mvc.perform(post("/api/auth/login/email")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(
+                        asJsonString(new LoginRequestWithEmail("garry@mail.co", "2222"))
+                )
+        ).andReturn().getResponse().getContentAsString();
+    }
+
+    @Test
+    public void test_Valid_ExportUser_OwnerAuthorization() throws Exception {
+        long userId = userService.readByEmail("garry@mail.co").getId();
+
+        var started = mvc.perform(get(BASE_URL, userId)
+                        .header("Authorization", "Bearer " + tokenUser)
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(started.getRequest().getAsyncContext().getTimeout())
+                .as("Data export must get its own async timeout.")
+                .isEqualTo(Duration.ofMinutes(30).toMillis());
+        mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/zip"))
+                .andExpect(result -> assertThat(result.getResponse().getContentAsByteArray().length).isGreaterThan(0));
+
+        mvc.perform(get(BASE_URL + "/progress", userId)
+                        .header("Authorization", "Bearer " + tokenUser)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"));
+    }
+
+    @Test
+    public void test_Invalid_ExportUser_OtherUserAuthorization() throws Exception {
+        long adminId = userService.readByUsername("skallet24").getId();
+
+        mvc.perform(get(BASE_URL, adminId)
+                        .header("Authorization", "Bearer " + tokenUser)
+                )
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void test_Invalid_GetExportProgress_NoExport() throws Exception {
+        mvc.perform(get(BASE_URL + "/progress", 0)
+                        .header("Authorization", "Bearer " + tokenAdmin)
+                )
+                .andExpect(status().isNotFound());
+    }
+}
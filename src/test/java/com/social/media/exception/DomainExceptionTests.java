@@ -0,0 +1,45 @@
+package com.social.media.exception;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DomainExceptionTests {
+
+    @Test
+    public void test_Valid_DomainException_WithoutStackTrace() {
+        var exception = new LikeAlreadyExistException("Like already exist, so you can not set it twice!");
+
+        assertAll(
+                () -> assertEquals(0, exception.getStackTrace().length,
+                        "Domain exceptions must not capture a stack trace."),
+                () -> assertEquals("Like already exist, so you can not set it twice!", exception.getMessage(),
+                        "Message must be kept without the stack trace.")
+        );
+    }
+
+    @Test
+    public void test_Valid_NotFoundException_WithoutStackTrace() {
+        var exception = new NotFoundException("User with id 0 not found!");
+
+        assertAll(
+                () -> assertInstanceOf(EntityNotFoundException.class, exception,
+                        "NotFoundException must still be handled as EntityNotFoundException."),
+                () -> assertEquals(0, exception.getStackTrace().length,
+                        "NotFoundException must not capture a stack trace.")
+        );
+    }
+
+    @Test
+    public void test_Valid_ServerBusyException_NotDomainException() {
+        var exception = new ServerBusyException("Too many data exports in progress, please try again later!");
+
+        assertAll(
+                () -> assertFalse(DomainException.class.isInstance(exception),
+                        "ServerBusyException ends as a 503, it must not be a 4xx domain exception."),
+                () -> assertEquals(0, exception.getStackTrace().length,
+                        "ServerBusyException must not capture a stack trace.")
+        );
+    }
+}
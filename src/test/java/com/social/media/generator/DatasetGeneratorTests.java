@@ -0,0 +1,100 @@
+package com.social.media.generator;
+
+import com.social.media.model.entity.Message;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:generator;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.data.mongodb.database=generator",
+        "generator.users=20",
+        "generator.posts-per-user=2",
+        "generator.max-likes-per-post=3",
+        "generator.max-comments-per-post=3",
+        "generator.max-follows-per-user=3",
+        "generator.conversations=5",
+        "generator.messages-per-conversation=2",
+        "generator.batch-size=7"
+})
+@ActiveProfiles({"test", "generator"})
+@ExtendWith(SpringExtension.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class DatasetGeneratorTests {
+    private final DatasetGenerator generator;
+    private final JdbcTemplate jdbcTemplate;
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public DatasetGeneratorTests(DatasetGenerator generator, JdbcTemplate jdbcTemplate, MongoTemplate mongoTemplate) {
+        this.generator = generator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // the H2 database is gone with the JVM, the Mongo one is not and would count the messages of earlier runs
+    @AfterAll
+    public void dropMessages() {
+        mongoTemplate.dropCollection(Message.class);
+    }
+
+    @Test
+    public void test_Injected_Component() {
+        assertThat(generator).isNotNull();
+        assertThat(jdbcTemplate).isNotNull();
+        assertThat(mongoTemplate).isNotNull();
+    }
+
+    @Test
+    public void test_Valid_Generate() {
+        List<Long> messengerIds = jdbcTemplate.queryForList("select m.id from messengers m " +
+                "join users u on u.id = m.owner_id where u.username like 'gen.%'", Long.class);
+
+        assertAll(
+                () -> assertEquals(20, count("select count(*) from users where username like 'gen.%'"),
+                        "Generator must add the configured number of users."),
+                () -> assertEquals(40, count("select count(*) from posts p join users u on u.id = p.owner_id " +
+                                "where u.username like 'gen.%'"),
+                        "Every generated user accounts for the configured posts per user."),
+                () -> assertEquals(40, count("select count(*) from photos ph join posts p on p.id = ph.post_id " +
+                                "join users u on u.id = p.owner_id where u.username like 'gen.%'"),
+                        "Every generated post must have one photo."),
+                () -> assertEquals(10, messengerIds.size(),
+                        "Every conversation has a messenger for both of its users."),
+                () -> assertEquals(10, mongoTemplate.count(Query.query(Criteria.where("messengerId").in(messengerIds)),
+                                Message.class),
+                        "Every conversation must have the configured number of messages.")
+        );
+    }
+
+    @Test
+    public void test_Invalid_Users() {
+        ReflectionTestUtils.setField(generator, "users", 1);
+        try {
+            assertThrows(IllegalStateException.class, () -> ReflectionTestUtils.invokeMethod(generator, "validate"),
+                    "Generator cannot work with a single user, there is nobody to follow or to write to.");
+        } finally {
+            ReflectionTestUtils.setField(generator, "users", 20);
+        }
+    }
+
+    private long count(String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return count == null ? 0 : count;
+    }
+}
@@ -1,6 +1,7 @@
 package com.social.media.repository;
 
 import com.social.media.model.entity.User;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,11 +21,13 @@ import static org.junit.jupiter.api.Assertions.*;
 @ExtendWith(SpringExtension.class)
 public class UserRepositoryTests {
     private final UserRepository userRepository;
+    private final EntityManagerFactory entityManagerFactory;
     private User expected;
 
     @Autowired
-    public UserRepositoryTests(UserRepository userRepository) {
+    public UserRepositoryTests(UserRepository userRepository, EntityManagerFactory entityManagerFactory) {
         this.userRepository = userRepository;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     @Test
@@ -32,6 +35,18 @@ public class UserRepositoryTests {
         assertThat(userRepository).isNotNull();
     }
 
+    @Test
+    public void test_Valid_SecondLevelCache() {
+        assertThat(entityManagerFactory).isNotNull();
+        var cache = entityManagerFactory.getCache();
+        cache.evict(User.class, 1L);
+
+        userRepository.findById(1L);
+
+        assertTrue(cache.contains(User.class, 1L),
+                "User loaded from the database must be put to the second-level cache.");
+    }
+
     @Test
     public void test_Valid_FindByUsername() {
         String username = "to.find";
@@ -55,6 +70,24 @@ public class UserRepositoryTests {
                 "We have no user with empty username, so here must be new User object.");
     }
 
+    @Test
+    public void test_Valid_FindByNaturalId() {
+        User expected = userRepository.findById(1L).orElseThrow();
+
+        assertEquals(expected, userRepository.findByNaturalId(expected.getUsername()).orElse(new User()),
+                "User resolved by the natural id must be the same as read by id!");
+    }
+
+    @Test
+    public void test_Invalid_FindByNaturalId() {
+        assertAll(
+                () -> assertTrue(userRepository.findByNaturalId(null).isEmpty(),
+                        "Null username must not resolve any user."),
+                () -> assertTrue(userRepository.findByNaturalId("not.existing").isEmpty(),
+                        "We have no user with this username, so here must be empty Optional.")
+        );
+    }
+
     @Test
     public void test_Valid_FindByEmail() {
         String email = "for@mail.co";
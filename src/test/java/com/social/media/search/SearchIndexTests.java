@@ -0,0 +1,105 @@
+package com.social.media.search;
+
+import com.social.media.search.SearchIndex.Hit;
+import com.social.media.search.SearchIndex.Type;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SearchIndexTests {
+    private SearchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new SearchIndex("");
+        index.index(new Hit(Type.POST, 1L, 10L, 1L, "My caaaat`s photos"));
+        index.index(new Hit(Type.POST, 2L, 11L, 2L, "Machines that I want"));
+        index.index(new Hit(Type.COMMENT, 1L, 11L, 1L, "What a cute cat!"));
+        index.index(new Hit(Type.USER, 10L, 10L, 0L, "Olivia Jones oil"));
+        index.refresh();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    public void test_Valid_Search() {
+        assertEquals(List.of(new Hit(Type.POST, 2L, 11L, 2L, "Machines that I want")),
+                index.search("machines", null, 0, 10),
+                "Search must match words case-insensitively and return the stored document.");
+        assertEquals(List.of(new Hit(Type.COMMENT, 1L, 11L, 1L, "What a cute cat!")),
+                index.search("cat", null, 0, 10),
+                "Search must match whole words only.");
+        assertEquals(2, index.search("ca*", null, 0, 10).size(),
+                "Prefix query must match every word that starts with the prefix.");
+    }
+
+    @Test
+    public void test_Valid_Search_WithType() {
+        var hits = index.search("oli* | cat", Type.USER, 0, 10);
+
+        assertEquals(1, hits.size(), "Only documents of the requested type must be found.");
+        assertEquals(Type.USER, hits.get(0).type(), "Only documents of the requested type must be found.");
+    }
+
+    @Test
+    public void test_Valid_Search_Paging() {
+        var all = index.search("ca* | machines", null, 0, 10);
+        var secondPage = index.search("ca* | machines", null, 1, 1);
+
+        assertEquals(3, all.size(), "All matching documents must be found.");
+        assertEquals(List.of(all.get(1)), secondPage, "Page must start at the offset.");
+    }
+
+    @Test
+    public void test_Valid_Index_Update_Remove() {
+        index.index(new Hit(Type.POST, 2L, 11L, 2L, "Bikes that I want"));
+        index.remove(Type.COMMENT, 1L);
+        index.refresh();
+
+        assertTrue(index.search("machines", null, 0, 10).isEmpty(), "Updated document must not match its old text.");
+        assertEquals(1, index.search("bikes", null, 0, 10).size(), "Updated document must match its new text.");
+        assertTrue(index.search("cat", null, 0, 10).isEmpty(), "Removed document must not be found.");
+        assertEquals(3, index.size(), "Update must replace the document instead of adding one.");
+    }
+
+    @Test
+    public void test_Valid_Rebuild() {
+        index.rebuild(() -> index.index(new Hit(Type.USER, 20L, 20L, 0L, "Garry Potter garry.potter")));
+
+        assertEquals(1, index.size(), "Rebuild must drop the previous documents.");
+        assertEquals(1, index.search("garry", Type.USER, 0, 10).size(), "Rebuilt documents must be searchable at once.");
+    }
+
+    @Test
+    public void test_Invalid_Rebuild_LoaderFails() {
+        assertThrows(IllegalStateException.class, () -> index.rebuild(() -> {
+            index.index(new Hit(Type.USER, 20L, 20L, 0L, "Garry Potter garry.potter"));
+            throw new IllegalStateException("Database is gone");
+        }), "Failure of the loader must be rethrown.");
+
+        assertEquals(4, index.size(), "Failed rebuild must keep the previous documents.");
+        assertEquals(1, index.search("machines", null, 0, 10).size(), "Previous documents must stay searchable.");
+        assertTrue(index.search("garry", null, 0, 10).isEmpty(), "Documents of the failed rebuild must be discarded.");
+
+        index.index(new Hit(Type.POST, 3L, 10L, 3L, "Bikes that I want"));
+        index.refresh();
+        assertEquals(1, index.search("bikes", null, 0, 10).size(), "Index must accept changes after a failed rebuild.");
+    }
+
+    @Test
+    public void test_Invalid_Search() {
+        index.index(new Hit(Type.POST, 3L, 10L, 3L, "Not refreshed yet"));
+
+        assertTrue(index.search("refreshed", null, 0, 10).isEmpty(), "Changes must not be visible before refresh.");
+        assertTrue(index.search("nothing", null, 0, 10).isEmpty(), "Unknown words must not match.");
+        assertTrue(index.search("cat", null, 5, 10).isEmpty(), "Page after the last hit must be empty.");
+    }
+}
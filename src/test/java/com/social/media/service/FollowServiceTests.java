@@ -0,0 +1,160 @@
+package com.social.media.service;
+
+import com.social.media.component.TimelineStore;
+import com.social.media.exception.FollowAlreadyExistException;
+import com.social.media.exception.SameUsersException;
+import com.social.media.model.entity.Follow;
+import com.social.media.model.entity.Post;
+import com.social.media.model.entity.User;
+import com.social.media.repository.FollowRepository;
+import com.social.media.repository.PostRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(value = SpringExtension.class)
+public class FollowServiceTests {
+    private final FollowService followService;
+    private final TimelineService timelineService;
+    private final UserService userService;
+    private final PostService postService;
+    private final TimelineStore timelineStore;
+    private final FollowRepository followRepository;
+    private final PostRepository postRepository;
+
+    @Autowired
+    public FollowServiceTests(FollowService followService, TimelineService timelineService,
+                              UserService userService, PostService postService, TimelineStore timelineStore,
+                              FollowRepository followRepository, PostRepository postRepository) {
+        this.followService = followService;
+        this.timelineService = timelineService;
+        this.userService = userService;
+        this.postService = postService;
+        this.timelineStore = timelineStore;
+        this.followRepository = followRepository;
+        this.postRepository = postRepository;
+    }
+
+    @AfterEach
+    public void clearTimelines() {
+        timelineStore.clear();
+    }
+
+    @Test
+    public void test_Injected_Component() {
+        assertThat(followService).isNotNull();
+        assertThat(timelineService).isNotNull();
+        assertThat(userService).isNotNull();
+        assertThat(postService).isNotNull();
+    }
+
+    @Test
+    public void test_Valid_Create() {
+        User follower = userService.readById(2L);
+        User followed = userService.readById(3L);
+
+        Follow actual = followService.create(follower.getId(), followed.getId());
+
+        assertAll(
+                () -> assertEquals(follower, actual.getFollower(),
+                        "Follower must be the user that follows."),
+                () -> assertEquals(followed, actual.getFollowed(),
+                        "Followed must be the user that is followed."),
+                () -> assertTrue(followService.isFollowing(follower.getId(), followed.getId()),
+                        "After creating follow user must be following."),
+                () -> assertTrue(followService.getFollowers(followed.getId()).contains(follower),
+                        "Followers must contain the follower."),
+                () -> assertTrue(followService.getFollowings(follower.getId()).contains(followed),
+                        "Followings must contain the followed user.")
+        );
+    }
+
+    @Test
+    public void test_Invalid_Create() {
+        followService.create(2L, 3L);
+
+        assertAll(
+                () -> assertThrows(SameUsersException.class, () -> followService.create(2L, 2L),
+                        "User can not follow himself."),
+                () -> assertThrows(FollowAlreadyExistException.class, () -> followService.create(2L, 3L),
+                        "User can not follow the same user twice."),
+                () -> assertThrows(EntityNotFoundException.class, () -> followService.create(2L, 0L),
+                        "We have no user with id 0.")
+        );
+    }
+
+    @Test
+    public void test_Valid_Delete() {
+        followService.create(3L, 2L);
+        followService.delete(3L, 2L);
+
+        assertFalse(followService.isFollowing(3L, 2L),
+                "After deleting follow user must not be following.");
+    }
+
+    @Test
+    public void test_Invalid_Delete() {
+        assertThrows(EntityNotFoundException.class, () -> followService.delete(3L, 0L),
+                "Here must be EntityNotFoundException because user 3 does not follow user 0.");
+    }
+
+    @Test
+    public void test_Valid_GetFeed() {
+        long followerId = 3L;
+        long followedId = 1L;
+        followService.create(followerId, followedId);
+
+        List<Post> expected = postService.getAll()
+                .stream()
+                .filter(post -> post.getOwner().getId() == followerId || post.getOwner().getId() == followedId)
+                .sorted(Comparator.comparing(Post::getTimestamp, Comparator.<LocalDateTime>reverseOrder())
+                        .thenComparing(Post::getId, Comparator.reverseOrder()))
+                .toList();
+
+        List<Post> actual = timelineService.getFeed(followerId, 0, 100);
+
+        assertEquals(expected, actual,
+                "Feed must contain own posts and posts of followed users, newest first.");
+    }
+
+    @Test
+    public void test_Valid_GetFeed_AccountNoLongerPopular() {
+        var lowThreshold = new TimelineService(timelineStore, followRepository, postRepository, 2);
+        long followerId = 3L;
+        long popularId = 1L;
+        followService.create(2L, popularId);
+        followService.create(followerId, popularId);
+
+        List<Post> expected = lowThreshold.getFeed(followerId, 0, 100);
+
+        followRepository.delete(followService.read(2L, popularId));
+        lowThreshold.onUnfollow(2L, popularId);
+
+        assertEquals(expected, lowThreshold.getFeed(followerId, 0, 100),
+                "Posts pulled while the account was popular must stay in the feed once it is not anymore.");
+    }
+
+    @Test
+    public void test_Invalid_GetFeed() {
+        assertTrue(timelineService.getFeed(0L, 0, 20).isEmpty(),
+                "We have no user with id 0, so feed must be empty.");
+        assertTrue(timelineService.getFeed(3L, 1000, 20).isEmpty(),
+                "Pages beyond the timeline capacity must be empty.");
+    }
+}
@@ -1,6 +1,7 @@
 package com.social.media.service;
 
 import com.social.media.exception.InvalidTextException;
+import com.social.media.exception.MessengerAlreadyExistException;
 import com.social.media.exception.SameUsersException;
 import com.social.media.model.entity.Messenger;
 import com.social.media.model.entity.User;
@@ -27,13 +28,15 @@ import static org.junit.jupiter.api.Assertions.*;
 public class MessengerServiceTests {
     private final MessengerService messengerService;
     private final UserService userService;
+    private final RoleService roleService;
 
     private Set<Messenger> messengers;
 
     @Autowired
-    public MessengerServiceTests(MessengerService messengerService, UserService userService) {
+    public MessengerServiceTests(MessengerService messengerService, UserService userService, RoleService roleService) {
         this.messengerService = messengerService;
         this.userService = userService;
+        this.roleService = roleService;
     }
 
     @BeforeEach
@@ -60,7 +63,7 @@ public class MessengerServiceTests {
     @Test
     public void test_Valid_Create_Id() {
         long ownerId = 1L;
-        long recipientId = 3L;
+        long recipientId = createRecipient().getId();
 
         Messenger expected = new Messenger();
         expected.setOwner(userService.readById(ownerId));
@@ -85,14 +88,17 @@ public class MessengerServiceTests {
                         "Here must be EntityNotFoundException because we have not recipient(user) with id 0!"),
 
                 () -> assertThrows(SameUsersException.class, () -> messengerService.create(1L, 1L),
-                        "Here must be SameUsersException because we write the same users")
+                        "Here must be SameUsersException because we write the same users"),
+
+                () -> assertThrows(MessengerAlreadyExistException.class, () -> messengerService.create(1L, 2L),
+                        "Here must be MessengerAlreadyExistException because these users already have a messenger")
         );
     }
 
     @Test
     public void test_Valid_Create_Username() {
         long ownerId = 3L;
-        String username = "garry.potter";
+        String username = createRecipient().getUsername();
 
         Messenger expected = new Messenger();
         expected.setOwner(userService.readById(ownerId));
@@ -121,13 +127,16 @@ public class MessengerServiceTests {
                         "Here must be InvalidTextException because username cannot be 'null'"),
 
                 () -> assertThrows(SameUsersException.class, () -> messengerService.create(ownerID, "oil"),
-                        "Here must be SameUsersException because we write the same users")
+                        "Here must be SameUsersException because we write the same users"),
+
+                () -> assertThrows(MessengerAlreadyExistException.class, () -> messengerService.create(ownerID, "garry.potter"),
+                        "Here must be MessengerAlreadyExistException because these users already have a messenger")
         );
     }
 
     @Test
     public void test_Valid_ReadById() {
-        Messenger expected =  messengerService.create(1L, 2L);
+        Messenger expected =  messengerService.create(1L, createRecipient().getId());
         Messenger actual = messengerService.readById(expected.getId());
 
         assertEquals(expected, actual,
@@ -194,4 +203,15 @@ public class MessengerServiceTests {
         assertTrue(messengerService.getAllByOwnerId(0L).isEmpty(),
                 "We have no user with id 0, so here must be empty list.");
     }
+
+    private User createRecipient() {
+        User user = new User();
+        user.setUsername("newuser");
+        user.setPassword("newpass");
+        user.setFirstName("First");
+        user.setLastName("Last");
+        user.setEmail("email@mail.co");
+
+        return userService.create(user, roleService.readByName("USER"));
+    }
 }
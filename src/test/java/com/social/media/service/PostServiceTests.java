@@ -35,13 +35,18 @@ import static org.junit.jupiter.api.Assertions.*;
 public class PostServiceTests {
     private final PostService postService;
     private final UserService userService;
+    private final MinioClientImpl minioClient;
+    private final RoleService roleService;
 
     private List<Post> posts;
 
     @Autowired
-    public PostServiceTests(PostService postService, UserService userService) {
+    public PostServiceTests(PostService postService, UserService userService, MinioClientImpl minioClient,
+                            RoleService roleService) {
         this.postService = postService;
         this.userService = userService;
+        this.minioClient = minioClient;
+        this.roleService = roleService;
     }
 
     @BeforeEach
@@ -88,6 +93,26 @@ public class PostServiceTests {
                 "After creating they must be equals.");
     }
 
+    @Test
+    public void test_Invalid_Create_RemovesUploadedPhotos() {
+        User owner = new User();
+        owner.setPassword("newPass");
+        owner.setEmail("rollback@mail.co");
+        owner.setUsername("post-rollback");
+        owner.setFirstName("Peter");
+        owner.setLastName("Nikolas");
+        long ownerId = userService.create(owner, roleService.readByName("USER")).getId();
+        String file = "photos/photoForTests.webp";
+        if (minioClient.isPhotoExist("post-rollback", file)) {
+            minioClient.removePhotos("post-rollback", List.of(file));
+        }
+
+        assertThrows(RuntimeException.class, () -> postService.create(ownerId, "a".repeat(300), List.of(file)),
+                "Description longer than its column must fail the post.");
+        assertFalse(minioClient.isPhotoExist("post-rollback", file),
+                "Photo uploaded for a post that was not saved must be removed again.");
+    }
+
     @Test
     public void test_Invalid_Create() {
         long ownerId = 2L;
@@ -118,7 +143,6 @@ public class PostServiceTests {
 
         Post post = postService.create(owner.getId(), "description", List.of(photoFile));
 
-        MinioClientImpl minioClient = new MinioClientImpl();
         minioClient.getPhoto(owner.getUsername(), photoFile);
 
         assertEquals(post.getPhotos().iterator().next().getFile().getName(), new File("downloaded/" + photoFile).getName(),
@@ -244,4 +268,27 @@ public class PostServiceTests {
         assertTrue(postService.getUserPosts(0L).isEmpty(),
                 "We have no user with id 0, so here must be empty list.");
     }
+
+    @Test
+    public void test_Valid_StreamUserPosts() {
+        long ownerId = 1L;
+        List<Long> expected = postService.getUserPosts(ownerId)
+                .stream()
+                .map(Post::getId)
+                .sorted()
+                .toList();
+
+        List<Long> actual = postService.streamUserPosts(ownerId, Post::getId)
+                .collectList()
+                .block();
+
+        assertEquals(expected, actual,
+                "Streamed posts must be the same as read posts, in id order.");
+    }
+
+    @Test
+    public void test_Invalid_StreamUserPosts() {
+        assertEquals(0L, postService.streamUserPosts(0L, Post::getId).count().block(),
+                "We have no user with id 0, so stream must be empty.");
+    }
 }
@@ -4,6 +4,7 @@ import com.social.media.exception.InvalidTextException;
 import com.social.media.model.entity.Role;
 import com.social.media.model.entity.User;
 import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Set;
@@ -85,6 +87,19 @@ public class RoleServiceTests {
                 "After reading role by id, objects must be equal!");
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void test_Valid_ReadOutsideTransaction() {
+        var byName = roleService.readByName("USER");
+        var byId = roleService.readById(byName.getId());
+
+        assertAll(
+                () -> assertTrue(Hibernate.isInitialized(byName), "Role read by name must be loaded, not a proxy."),
+                () -> assertTrue(Hibernate.isInitialized(byId), "Role read by id must be loaded, not a proxy."),
+                () -> assertEquals("USER", byId.getName(), "Role must stay readable once its session is closed.")
+        );
+    }
+
     @Test
     public void test_Invalid_ReadById() {
         assertThrows(EntityNotFoundException.class, () -> roleService.readById(0L),
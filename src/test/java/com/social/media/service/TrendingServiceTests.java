@@ -0,0 +1,72 @@
+package com.social.media.service;
+
+import com.social.media.model.entity.Post;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(value = SpringExtension.class)
+public class TrendingServiceTests {
+    private final TrendingService trendingService;
+    private final CommentService commentService;
+    private final PostService postService;
+
+    @Autowired
+    public TrendingServiceTests(TrendingService trendingService, CommentService commentService, PostService postService) {
+        this.trendingService = trendingService;
+        this.commentService = commentService;
+        this.postService = postService;
+    }
+
+    @Test
+    public void test_Injected_Component() {
+        assertThat(trendingService).isNotNull();
+        assertThat(commentService).isNotNull();
+        assertThat(postService).isNotNull();
+    }
+
+    @Test
+    public void test_Valid_GetTrending() {
+        Post expected = postService.create(2L, "trending", List.of("photos/green.jpg"));
+        for (int i = 0; i < 50; i++) {
+            commentService.create(1L, expected.getId(), "comment " + i);
+        }
+
+        trendingService.refresh();
+
+        assertEquals(expected, trendingService.getTrending(1).get(0),
+                "Post with the most recent engagement must be the first trending post.");
+    }
+
+    @Test
+    public void test_Valid_GetRanking_Sorted() {
+        commentService.create(1L, 1L, "comment");
+        trendingService.refresh();
+
+        List<TrendingService.RankedPost> ranking = trendingService.getRanking();
+        for (int i = 1; i < ranking.size(); i++) {
+            assertTrue(ranking.get(i - 1).score() >= ranking.get(i).score(),
+                    "Ranking must be sorted by score, highest first.");
+        }
+    }
+
+    @Test
+    public void test_Invalid_GetTrending() {
+        assertTrue(trendingService.getTrending(0).isEmpty(),
+                "Limit 0 must return no posts.");
+        assertTrue(trendingService.getTrending(-1).isEmpty(),
+                "Negative limit must return no posts.");
+    }
+}
@@ -0,0 +1,126 @@
+package com.social.media.service;
+
+import com.social.media.exception.NotFoundException;
+import com.social.media.repository.PostRepository;
+import com.social.media.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.AssertionsForClassTypes.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(SpringExtension.class)
+public class UserDeletionServiceTests {
+    private final UserDeletionService deletionService;
+    private final UserService userService;
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentService commentService;
+    private final LikeService likeService;
+    private final SearchService searchService;
+
+    @Autowired
+    public UserDeletionServiceTests(UserDeletionService deletionService, UserService userService, UserRepository userRepository,
+                                    PostRepository postRepository, CommentService commentService, LikeService likeService,
+                                    SearchService searchService) {
+        this.deletionService = deletionService;
+        this.userService = userService;
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.commentService = commentService;
+        this.likeService = likeService;
+        this.searchService = searchService;
+    }
+
+    @Test
+    public void test_Injected_Components() {
+        assertThat(deletionService).isNotNull();
+        assertThat(userService).isNotNull();
+        assertThat(userRepository).isNotNull();
+        assertThat(postRepository).isNotNull();
+        assertThat(commentService).isNotNull();
+        assertThat(likeService).isNotNull();
+        assertThat(searchService).isNotNull();
+    }
+
+    @Test
+    public void test_Valid_Delete_SoftDeletesAtOnce() {
+        long userId = userService.readByUsername("oil").getId();
+
+        userService.delete(userId);
+
+        assertAll(
+                () -> assertTrue(userService.getAll().stream().noneMatch(user -> user.getId() == userId),
+                        "Soft deleted user must be hidden from queries."),
+                () -> assertTrue(userRepository.findAllDeleted().stream().anyMatch(user -> user.getId() == userId),
+                        "Soft deleted user must wait for the purge."),
+                () -> assertTrue(userRepository.findByUsername("oil").isEmpty(),
+                        "Soft deleted user must not be found by its username.")
+        );
+    }
+
+    @Test
+    public void test_Valid_Delete_PurgeWaitsForCommit() {
+        long userId = userService.readByUsername("oil").getId();
+
+        userService.delete(userId);
+
+        assertTrue(deletionService.findJob(userId).isEmpty(),
+                "Purge must not start before the deletion is committed.");
+    }
+
+    @Test
+    public void test_Invalid_CommentAndLike_PostOfDeletedUser() {
+        long userId = userService.readByUsername("oil").getId();
+        long postId = postRepository.findIdsByOwnerId(userId, PageRequest.ofSize(1)).get(0);
+
+        userService.delete(userId);
+
+        assertAll(
+                () -> assertThrows(NotFoundException.class, () -> commentService.create("skallet24", postId, "Where are you?"),
+                        "Post of a soft deleted user must not take new comments."),
+                () -> assertThrows(NotFoundException.class, () -> likeService.create("garry.potter", postId),
+                        "Post of a soft deleted user must not take new likes.")
+        );
+    }
+
+    @Test
+    public void test_Valid_Rebuild_SkipsDeletedUser() {
+        userService.delete(userService.readByUsername("oil").getId());
+
+        searchService.rebuild();
+
+        assertAll(
+                () -> assertTrue(searchService.search("oil", "user", 0, 10).isEmpty(),
+                        "Soft deleted user must not be indexed again."),
+                () -> assertTrue(searchService.search("caaaat", "post", 0, 10).isEmpty(),
+                        "Posts of a soft deleted user must not be indexed again."),
+                () -> assertTrue(searchService.search("grass", "comment", 0, 10).isEmpty(),
+                        "Comments of a soft deleted user must not be indexed again."),
+                () -> assertTrue(searchService.search("cats", "comment", 0, 10).isEmpty(),
+                        "Comments under posts of a soft deleted user must not be indexed again."),
+                () -> assertFalse(searchService.search("machines", "post", 0, 10).isEmpty(),
+                        "Posts of other users must stay indexed.")
+        );
+    }
+
+    @AfterTransaction
+    public void rebuildIndex() {
+        searchService.rebuild();
+    }
+
+    @Test
+    public void test_Invalid_FindJob_NoDeletion() {
+        assertTrue(deletionService.findJob(0L).isEmpty(), "Here must be no deletion of a user with id 0.");
+    }
+}
@@ -0,0 +1,150 @@
+package com.social.media.service;
+
+import com.social.media.exception.ServerBusyException;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.AssertionsForClassTypes.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+@ExtendWith(SpringExtension.class)
+public class UserExportServiceTests {
+    private final UserExportService exportService;
+    private final UserService userService;
+
+    @Autowired
+    public UserExportServiceTests(UserExportService exportService, UserService userService) {
+        this.exportService = exportService;
+        this.userService = userService;
+    }
+
+    @Test
+    public void test_Injected_Components() {
+        assertThat(exportService).isNotNull();
+        assertThat(userService).isNotNull();
+    }
+
+    @Test
+    public void test_Valid_Export() throws IOException {
+        long userId = userService.readByUsername("skallet24").getId();
+        var output = new ByteArrayOutputStream();
+
+        var job = exportService.start(userId);
+        exportService.write(job, output);
+
+        var names = entryNames(output.toByteArray());
+        assertAll(
+                () -> assertTrue(names.containsAll(List.of("profile.json", "posts.ndjson", "comments.ndjson",
+                        "likes.ndjson", "messengers.ndjson", "messages.ndjson")), "Every section must be in the archive."),
+                () -> assertEquals(ExportJob.State.COMPLETED, job.getState(), "Finished export must be completed."),
+                () -> assertEquals(output.size(), job.getBytes().get(), "Progress must count every byte written."),
+                () -> assertEquals(job, exportService.findJob(userId).orElseThrow(), "Progress must be kept after the end.")
+        );
+    }
+
+    @Test
+    public void test_Invalid_Start_AlreadyRunning() throws IOException {
+        long userId = userService.readByUsername("oil").getId();
+
+        var job = exportService.start(userId);
+        try {
+            assertThrows(ServerBusyException.class, () -> exportService.start(userId),
+                    "Second export of the same user must be rejected while the first one runs.");
+        } finally {
+            exportService.write(job, new ByteArrayOutputStream());
+        }
+    }
+
+    @Test
+    public void test_Valid_Abort_BodyNeverWritten() {
+        long userId = userService.readByUsername("skallet24").getId();
+
+        for (int i = 0; i < 3; i++) {
+            var job = assertDoesNotThrow(() -> exportService.start(userId),
+                    "Aborted exports must give their slot back.");
+            exportService.abort(job);
+
+            assertEquals(ExportJob.State.FAILED, job.getState(), "Export aborted before its body ran must be failed.");
+            assertThrows(IOException.class, () -> exportService.write(job, new ByteArrayOutputStream()),
+                    "Aborted export must not be written any more.");
+        }
+    }
+
+    @Test
+    public void test_Valid_Abort_AfterWrite() throws IOException {
+        var written = exportService.start(userService.readByUsername("skallet24").getId());
+        exportService.write(written, new ByteArrayOutputStream());
+        exportService.abort(written);
+
+        assertEquals(ExportJob.State.COMPLETED, written.getState(), "Abort must not change a finished export.");
+
+        var first = exportService.start(userService.readByUsername("garry.potter").getId());
+        var second = exportService.start(userService.readByUsername("oil").getId());
+        try {
+            assertThrows(ServerBusyException.class, () -> exportService.start(userService.readByUsername("skallet24").getId()),
+                    "Slot of a finished export must be given back only once.");
+        } finally {
+            exportService.abort(first);
+            exportService.abort(second);
+        }
+    }
+
+    @Test
+    public void test_Valid_Abort_WhileWriting() {
+        var running = exportService.start(userService.readByUsername("skallet24").getId());
+        var other = new ArrayList<ExportJob>();
+        var output = new OutputStream() {
+            @Override
+            public void write(int b) {
+                if (other.isEmpty()) {
+                    exportService.abort(running);
+                    other.add(exportService.start(userService.readByUsername("garry.potter").getId()));
+                    assertThrows(ServerBusyException.class, () -> exportService.start(userService.readByUsername("oil").getId()),
+                            "Aborted export must keep its slot while its body still runs.");
+                }
+            }
+        };
+
+        try {
+            assertThrows(IOException.class, () -> exportService.write(running, output),
+                    "Body of an aborted export must stop writing.");
+            other.add(assertDoesNotThrow(() -> exportService.start(userService.readByUsername("oil").getId()),
+                    "Body of an aborted export must give its slot back once it stopped."));
+        } finally {
+            other.forEach(exportService::abort);
+        }
+    }
+
+    @Test
+    public void test_Invalid_Start_NotFound() {
+        assertThrows(EntityNotFoundException.class, () -> exportService.start(0),
+                "Export of a missing user must be rejected.");
+    }
+
+    private static List<String> entryNames(byte[] archive) throws IOException {
+        var names = new ArrayList<String>();
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                names.add(entry.getName());
+            }
+        }
+        return names;
+    }
+}
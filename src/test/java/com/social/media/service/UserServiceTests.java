@@ -1,6 +1,7 @@
 package com.social.media.service;
 
 import com.social.media.exception.InvalidTextException;
+import com.social.media.model.dto.user.UserFilter;
 import com.social.media.model.entity.User;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,12 +12,17 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.*;
@@ -62,6 +68,42 @@ public class UserServiceTests {
                 "Set`s of users must be the same!");
     }
 
+    @Test
+    public void test_Valid_GetAll_Filter() {
+        var expected = users.stream()
+                .filter(user -> user.getRole().getName().equals("USER") && user.getFirstName().equals("Garry"))
+                .toList();
+
+        var page = userService.getAll(new UserFilter("USER", "Garry", null, null, null), PageRequest.of(0, 10));
+
+        assertAll(
+                () -> assertEquals(expected, page.getContent(), "Page must contain only users matching every criterion."),
+                () -> assertEquals(expected.size(), page.getTotalElements(), "Total must count the matching users.")
+        );
+    }
+
+    @Test
+    public void test_Valid_GetAll_FilterByCreatedAt() {
+        var now = LocalDateTime.now();
+
+        assertAll(
+                () -> assertEquals(users.size(), userService.getAll(new UserFilter(null, null, null, null, now.plusMinutes(1)),
+                        PageRequest.of(0, 100)).getTotalElements(), "Every user was created before now."),
+                () -> assertTrue(userService.getAll(new UserFilter(null, null, null, now.plusMinutes(1), null),
+                        PageRequest.of(0, 100)).isEmpty(), "No user is created in the future.")
+        );
+    }
+
+    @Test
+    public void test_Valid_ForEach() {
+        var streamed = new ArrayList<User>();
+
+        userService.forEach(new UserFilter(null, null, null, null, null), streamed::add);
+
+        assertEquals(users.stream().map(User::getId).sorted().toList(), streamed.stream().map(User::getId).toList(),
+                "Every user must be streamed in the order of ids.");
+    }
+
     @Test
     public void test_Valid_Create() {
         User expected = new User();
@@ -697,6 +739,49 @@ public class UserServiceTests {
         );
     }
 
+    @Test
+    public void test_Valid_FindByUsernameOrEmail() {
+        User expected = userService.readById(1L);
+
+        assertAll(
+                () -> assertEquals(Optional.of(expected), userService.findByUsernameOrEmail("skallet24"),
+                        "User must be found by username!"),
+                () -> assertEquals(Optional.of(expected), userService.findByUsernameOrEmail("jone@mail.co"),
+                        "User must be found by email!")
+        );
+    }
+
+    @Test
+    public void test_Invalid_FindByUsernameOrEmail() {
+        assertAll(
+                () -> assertTrue(userService.findByUsernameOrEmail("invalid").isEmpty(),
+                        "Missing user must be an empty result instead of an exception!"),
+                () -> assertTrue(userService.findByUsernameOrEmail("  ").isEmpty(),
+                        "Blank username or email must be an empty result!"),
+                () -> assertTrue(userService.findByUsernameOrEmail(null).isEmpty(),
+                        "Null username or email must be an empty result!")
+        );
+    }
+
+    @Test
+    public void test_Valid_UpgradePasswordEncoding() {
+        User user = userService.readById(1L);
+        String weakHash = new BCryptPasswordEncoder(4).encode("1111");
+        user.setPassword(weakHash);
+
+        userService.upgradePasswordEncoding(user, "1111");
+        String upgraded = userService.readById(1L).getPassword();
+
+        assertAll(
+                () -> assertNotEquals(weakHash, upgraded,
+                        "Password hashed with a lower cost factor must be re-hashed!"),
+                () -> assertTrue(passwordEncoder.matches("1111", upgraded),
+                        "Re-hashed password must still match the raw one!"),
+                () -> assertFalse(passwordEncoder.upgradeEncoding(upgraded),
+                        "Re-hashed password must have the current cost factor!")
+        );
+    }
+
     @Test
     public void test_Valid_GetAllByRole() {
         String roleName = "USER";
@@ -728,4 +813,41 @@ public class UserServiceTests {
                         "We have no users with this role name, so here must be true")
         );
     }
+
+    @Test
+    public void test_Valid_Autocomplete() {
+        User user = new User();
+        user.setPassword("newPass");
+        user.setEmail("autocomplete@mail.co");
+        user.setUsername("zoe.autocomplete");
+        user.setFirstName("Zoe");
+        user.setLastName("Quartermaine");
+        User created = userService.create(user, roleService.readByName("USER"));
+
+        assertAll(
+                () -> assertEquals(created.getId(), userService.autocomplete("zoe.auto", 10).get(0).id(),
+                        "Created user must be found by the username prefix."),
+                () -> assertEquals(created.getId(), userService.autocomplete("Zoe Q", 10).get(0).id(),
+                        "Created user must be found by the name prefix, whatever the letter case."),
+                () -> assertEquals(created.getId(), userService.autocomplete("quarter", 10).get(0).id(),
+                        "Created user must be found by the last name prefix.")
+        );
+
+        userService.delete(created.getId());
+
+        assertTrue(userService.autocomplete("quarter", 10).isEmpty(),
+                "Deleted user must not be suggested.");
+    }
+
+    @Test
+    public void test_Invalid_Autocomplete() {
+        assertAll(
+                () -> assertThrows(InvalidTextException.class, () -> userService.autocomplete(" ", 10),
+                        "Prefix cannot be blank, so here must be InvalidTextException!"),
+                () -> assertThrows(InvalidTextException.class, () -> userService.autocomplete(null, 10),
+                        "Prefix cannot be null, so here must be InvalidTextException!"),
+                () -> assertTrue(userService.autocomplete("no-such-user-prefix", 10).isEmpty(),
+                        "We have no users with this prefix, so here must be true")
+        );
+    }
 }
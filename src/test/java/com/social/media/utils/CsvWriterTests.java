@@ -0,0 +1,34 @@
+package com.social.media.utils;
+
+import com.social.media.util.CsvWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvWriterTests {
+
+    @Test
+    public void test_Valid_WriteRow() throws IOException {
+        var output = new StringWriter();
+        var csv = new CsvWriter(output);
+
+        csv.writeRow(1, "plain", null, "with,comma", "with \"quote\"", "two\nlines");
+
+        assertEquals("1,plain,,\"with,comma\",\"with \"\"quote\"\"\",\"two\nlines\"\r\n", output.toString(),
+                "Values with separators, quotes or line breaks must be quoted.");
+    }
+
+    @Test
+    public void test_Valid_WriteRow_Formula() throws IOException {
+        var output = new StringWriter();
+        var csv = new CsvWriter(output);
+
+        csv.writeRow("=SUM(A1)", "-user", "@mail");
+
+        assertEquals("'=SUM(A1),'-user,'@mail\r\n", output.toString(),
+                "Values a spreadsheet would run as a formula must be prefixed.");
+    }
+}
@@ -0,0 +1,67 @@
+package com.social.media.utils;
+
+import com.social.media.util.JwtKeys;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtKeysTests {
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void test_Valid_Load_CreatesFile() {
+        var file = directory.resolve("keys");
+
+        var created = JwtKeys.load(file);
+        var loaded = JwtKeys.load(file);
+
+        assertAll(
+                () -> assertTrue(Files.exists(file), "Missing key file must be created."),
+                () -> assertEquals(created.activeKid(), loaded.activeKid(), "Created key must be kept on the next load."),
+                () -> assertArrayEquals(created.active().getEncoded(), loaded.active().getEncoded(),
+                        "Created key must be kept on the next load.")
+        );
+    }
+
+    @Test
+    public void test_Valid_Load_LastKeyIsActive() throws IOException {
+        var file = directory.resolve("keys");
+        Files.writeString(file, "# rotated keys\n" + line("old", 1) + "\n\n" + line("new", 2) + "\n");
+
+        var keys = JwtKeys.load(file);
+
+        assertAll(
+                () -> assertEquals("new", keys.activeKid(), "Last key of the file must be the active one."),
+                () -> assertNotNull(keys.get("old"), "Rotated-out key must still verify its tokens."),
+                () -> assertNull(keys.get("unknown"), "Unknown key id must have no key."),
+                () -> assertNull(keys.get(null), "Missing key id must have no key.")
+        );
+    }
+
+    @Test
+    public void test_Invalid_Load() throws IOException {
+        var empty = Files.writeString(directory.resolve("empty"), "# no keys\n");
+        var malformed = Files.writeString(directory.resolve("malformed"), "no separator\n");
+
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, () -> JwtKeys.load(empty),
+                        "Key file without keys must be rejected."),
+                () -> assertThrows(IllegalStateException.class, () -> JwtKeys.load(malformed),
+                        "Key file with a line without 'kid=secret' must be rejected.")
+        );
+    }
+
+    private static String line(String kid, int fill) {
+        var secret = new byte[64];
+        Arrays.fill(secret, (byte) fill);
+        return kid + "=" + Base64.getEncoder().encodeToString(secret);
+    }
+}
@@ -1,13 +1,20 @@
 package com.social.media.utils;
 
 import com.social.media.exception.InvalidTextException;
+import com.social.media.util.JwtKeys;
 import com.social.media.util.JwtUtils;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.*;
@@ -79,6 +86,53 @@ public class JwtUtilsTests {
                 "Here we should get InvalidTextException because my token cannot be with so small length and null and blank.");
     }
 
+    @Test
+    public void test_Valid_GenerateRefreshToken() {
+        String token = jwtUtils.generateRefreshToken("refresh");
+
+        assertAll(
+                () -> assertEquals("refresh", jwtUtils.parseRefreshToken(token).orElseThrow().getSubject(),
+                        "Refresh token must be parsed as a refresh token with its subject."),
+                () -> assertFalse(jwtUtils.isJwtTokenValid(token),
+                        "Refresh token must not be accepted as an access token.")
+        );
+    }
+
+    @Test
+    public void test_Invalid_ParseRefreshToken() {
+        String token = jwtUtils.generateTokenFromUsername("access");
+
+        assertTrue(jwtUtils.parseRefreshToken(token).isEmpty(),
+                "Access token must not be accepted as a refresh token.");
+    }
+
+    @Test
+    public void test_Valid_Jti() {
+        var first = jwtUtils.parseAccessToken(jwtUtils.generateTokenFromUsername("jti")).orElseThrow();
+        var second = jwtUtils.parseAccessToken(jwtUtils.generateTokenFromUsername("jti")).orElseThrow();
+
+        assertNotEquals(first.getId(), second.getId(), "Every token must get its own id.");
+    }
+
+    @Test
+    public void test_Invalid_UnknownKid() {
+        var other = new JwtUtils(ObservationRegistry.NOOP, JwtKeys.load(createKeysFile()));
+        ReflectionTestUtils.setField(other, "inspirationMs", 60000L);
+
+        String token = other.generateTokenFromUsername("username");
+
+        assertFalse(jwtUtils.isJwtTokenValid(token),
+                "Token signed with a key unknown to this instance must be rejected.");
+    }
+
+    private static Path createKeysFile() {
+        try {
+            return Files.createTempDirectory("jwt").resolve("keys");
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
     private static Stream<String> provideInvalidStringsAndToken() {
         return Stream.of("   ", null, "invalid");
     }
@@ -0,0 +1,87 @@
+package com.social.media.utils;
+
+import com.social.media.exception.ServerBusyException;
+import com.social.media.util.OffloadedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffloadedPasswordEncoderTests {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private OffloadedPasswordEncoder encoder;
+
+    @AfterEach
+    public void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Test
+    public void test_Valid_EncodeAndMatches() {
+        encoder = new OffloadedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, registry);
+
+        String encoded = encoder.encode("1111");
+
+        assertAll(
+                () -> assertTrue(encoder.matches("1111", encoded), "Encoded password must match the raw one."),
+                () -> assertFalse(encoder.matches("2222", encoded), "Other password must not match."),
+                () -> assertEquals(1, registry.get("password.encoder").tag("operation", "encode").timer().count(),
+                        "Encoding must be timed."),
+                () -> assertEquals(2, registry.get("password.encoder").tag("operation", "matches").timer().count(),
+                        "Every verification must be timed.")
+        );
+    }
+
+    @Test
+    public void test_Valid_UpgradeEncoding() {
+        encoder = new OffloadedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1, registry);
+
+        assertAll(
+                () -> assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("1111")),
+                        "Hash with a lower cost factor must be upgraded."),
+                () -> assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("1111")),
+                        "Hash with the current cost factor must be kept.")
+        );
+    }
+
+    @Test
+    public void test_Invalid_QueueFull() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        encoder = new OffloadedPasswordEncoder(blocking, 1, 1, registry);
+
+        var running = CompletableFuture.supplyAsync(() -> encoder.encode("1111"));
+        assertTrue(started.await(5, TimeUnit.SECONDS), "First encoding must occupy the only thread.");
+        var queued = CompletableFuture.supplyAsync(() -> encoder.encode("2222"));
+        while (registry.get("executor.queued").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(ServerBusyException.class, () -> encoder.encode("3333"),
+                "Encoding must be rejected at once when the thread is busy and the queue is full.");
+        assertEquals(1.0, registry.get("password.encoder.rejected").counter().count(), "Rejection must be counted.");
+
+        release.countDown();
+        assertNotNull(running.get(5, TimeUnit.SECONDS), "Running encoding must complete.");
+        assertNotNull(queued.get(5, TimeUnit.SECONDS), "Queued encoding must complete.");
+    }
+}